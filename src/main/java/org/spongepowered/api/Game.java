@@ -40,6 +40,7 @@
 import org.spongepowered.api.service.ServiceProvider;
 import org.spongepowered.api.sql.SqlManager;
 import org.spongepowered.api.util.metric.MetricsConfigManager;
+import org.spongepowered.api.util.metric.TimingsManager;
 
 import java.nio.file.Path;
 import java.util.Locale;
@@ -191,6 +192,14 @@ default Client client() {
      */
     MetricsConfigManager metricsConfigManager();
 
+    /**
+     * Gets the {@link TimingsManager}, recording how much time the tasks,
+     * listeners and commands of each plugin take up.
+     *
+     * @return The {@link TimingsManager} instance
+     */
+    TimingsManager timingsManager();
+
     /**
      * Gets the {@link SqlManager} for grabbing sql data sources.
      *
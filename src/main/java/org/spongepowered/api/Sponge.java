@@ -37,6 +37,7 @@
 import org.spongepowered.api.service.ServiceProvider;
 import org.spongepowered.api.sql.SqlManager;
 import org.spongepowered.api.util.metric.MetricsConfigManager;
+import org.spongepowered.api.util.metric.TimingsManager;
 
 /**
  * A static all access class granting static access to various systems
@@ -196,6 +197,16 @@ public static MetricsConfigManager metricsConfigManager() {
         return Sponge.game().metricsConfigManager();
     }
 
+    /**
+     * Gets the {@link TimingsManager}, recording how much time the tasks,
+     * listeners and commands of each plugin take up.
+     *
+     * @return The {@link TimingsManager} instance
+     */
+    public static TimingsManager timingsManager() {
+        return Sponge.game().timingsManager();
+    }
+
     /**
      * Gets the {@link Scheduler} used to schedule async tasks.
      *
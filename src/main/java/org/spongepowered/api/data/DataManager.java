@@ -177,4 +177,14 @@ public interface DataManager {
      */
     DataContainer createContainer(DataView.SafetyMode safety);
 
+    /**
+     * Creates a new compact {@link DataContainer} with the provided
+     * {@link org.spongepowered.api.data.persistence.DataView.SafetyMode}.
+     *
+     * @param safety The safety mode to use
+     * @see DataContainer#createCompact(DataView.SafetyMode)
+     * @return A new compact data container with the provided safety mode
+     */
+    DataContainer createCompactContainer(DataView.SafetyMode safety);
+
 }
@@ -56,6 +56,25 @@ static DataContainer createNew(SafetyMode safety) {
         return Sponge.dataManager().createContainer(safety);
     }
 
+    /**
+     * Creates a new compact {@link DataContainer} with the provided
+     * {@link DataView.SafetyMode}.
+     *
+     * <p>Compact containers store primitives and {@code byte[]},
+     * {@code int[]} and {@code long[]} arrays unboxed, trading some speed on
+     * structural changes for a much smaller heap footprint. They are meant
+     * for large amounts of data that is mostly kept around and read, such as
+     * archetypes. Combined with {@link DataView.SafetyMode#NO_DATA_CLONED},
+     * arrays are stored and returned without any defensive copies.</p>
+     *
+     * @param safety The safety mode to use
+     * @see DataView.SafetyMode
+     * @return A new compact data container with the provided safety mode
+     */
+    static DataContainer createCompact(SafetyMode safety) {
+        return Sponge.dataManager().createCompactContainer(safety);
+    }
+
     @Override
     DataContainer set(DataQuery path, Object value);
 
@@ -30,6 +30,9 @@
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Set;
 
 /**
  * Represents a parser for a particular file format allowing reading and writing
@@ -50,6 +53,68 @@ public interface DataFormat extends DefaultedRegistryValue {
      */
     DataContainer readFrom(InputStream input) throws InvalidDataFormatException, IOException;
 
+    /**
+     * Reads the contents of the given {@link InputStream}, reporting its
+     * structure to the given {@link DataVisitor} as it is read instead of
+     * materializing it into a {@link DataContainer}.
+     *
+     * <p>Subtrees the visitor {@link DataVisitor.Action#SKIP skips} are
+     * passed over without being decoded where the format allows it.</p>
+     *
+     * @param input The input stream
+     * @param visitor The visitor to report the contents to
+     * @throws InvalidDataFormatException If the data in the stream was not a
+     *         supported format
+     * @throws IOException If there was an error reading from the stream
+     */
+    void readFrom(InputStream input, DataVisitor visitor) throws InvalidDataFormatException, IOException;
+
+    /**
+     * Creates a new {@link DataContainer} from the contents of the given
+     * {@link InputStream}, only keeping the data at the given paths.
+     *
+     * <p>All other data is skipped while reading, so only the requested
+     * paths are held in memory at any point.</p>
+     *
+     * <p>Paths are matched against the paths reported to a
+     * {@link DataVisitor}, where the elements of a list share the path of the
+     * list. Requesting the path of a list keeps the entire list. Requesting
+     * the path of a list followed by a key keeps the list with all of its
+     * elements, but reduces every view element to just that key. A path
+     * without a list in it never matches anything within a list.</p>
+     *
+     * @param input The input stream
+     * @param paths The paths of the data to keep
+     * @return A data container with the data at the given paths
+     * @throws InvalidDataFormatException If the data in the stream was not a
+     *         supported format
+     * @throws IOException If there was an error reading from the stream
+     */
+    DataContainer readFrom(InputStream input, Set<DataQuery> paths) throws InvalidDataFormatException, IOException;
+
+    /**
+     * Creates a new {@link DataContainer} from the contents of the file at
+     * the given {@link Path}.
+     *
+     * <p>Formats may map the file into memory and only decode the parts of
+     * the returned container as they are first accessed, which makes reading
+     * a few entries out of a large file cheap. In that case the file may
+     * stay mapped for as long as the returned container is referenced, and
+     * changes made to the file in the meantime lead to undefined
+     * results.</p>
+     *
+     * @param path The path of the file to read
+     * @return A data container representing the contents of the file
+     * @throws InvalidDataFormatException If the data in the file was not a
+     *         supported format
+     * @throws IOException If there was an error reading from the file
+     */
+    default DataContainer readFrom(final Path path) throws InvalidDataFormatException, IOException {
+        try (final InputStream input = Files.newInputStream(path)) {
+            return this.readFrom(input);
+        }
+    }
+
     /**
      * Writes the given {@link DataView} to the given {@link OutputStream} using
      * the format specified by this {@link DataFormat}.
@@ -60,4 +125,16 @@ public interface DataFormat extends DefaultedRegistryValue {
      */
     void writeTo(OutputStream output, DataView data) throws IOException;
 
+    /**
+     * Creates a {@link DataVisitor.Writer} that writes the structure it
+     * visits to the given {@link OutputStream} using the format specified by
+     * this {@link DataFormat}, without it having to be materialized into a
+     * {@link DataView} first.
+     *
+     * @param output The output stream to write the data to
+     * @return The writer
+     * @throws IOException If there was an error writing to the stream
+     */
+    DataVisitor.Writer writer(OutputStream output) throws IOException;
+
 }
@@ -25,61 +25,95 @@
 package org.spongepowered.api.data.persistence;
 
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.MapMaker;
 import org.checkerframework.checker.nullness.qual.MonotonicNonNull;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Spliterator;
 import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 import java.util.function.Consumer;
-import java.util.regex.Pattern;
 
 /**
  * Represents a query that can be done on views. Queries do not depend on
  * their separator, it is just a way to construct them.
+ *
+ * <p>Queries are interned in a trie of their parts, equal queries are
+ * therefore always the same instance. Appending a part to a query or
+ * popping the last part off of it only moves along the trie.</p>
  */
 public final class DataQuery implements Iterable<String> {
 
-    private static final DataQuery EMPTY = new DataQuery();
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final AtomicReferenceFieldUpdater<DataQuery, ConcurrentMap<String, DataQuery>> CHILDREN =
+        (AtomicReferenceFieldUpdater) AtomicReferenceFieldUpdater.newUpdater(DataQuery.class, ConcurrentMap.class, "children");
+    private static final DataQuery EMPTY = new DataQuery(null, "");
 
     /**
-     * The parts that make up this query.
+     * The query this query is a child of, {@code null} only for the empty
+     * query at the root of the trie.
      */
-    private final ImmutableList<String> parts;
-
-    private @MonotonicNonNull ImmutableList<DataQuery> queryParts; //lazy loaded
+    private final @Nullable DataQuery parent;
 
     /**
-     * Constructs a query using the given separator character and path.
-     *
-     * <p>As an example, {@code new DataQuery('/', "a/b/c")} and
-     * {@code new DataQuery('.', "a.b.c")} represent the same path but are
-     * constructed using different separators.</p>
-     *
-     * @param separator The separator
-     * @param path The path
+     * The last part of this query.
      */
-    private DataQuery(final char separator, final String path) {
-        this(path.split(Pattern.quote(String.valueOf(separator))));
-    }
+    private final String name;
+    private final int depth;
+    private final int hashCode;
+
+    // Weak values so that queries nobody holds on to anymore can be collected
+    private volatile @Nullable ConcurrentMap<String, DataQuery> children; //lazy loaded
+
+    private @MonotonicNonNull ImmutableList<String> parts; //lazy loaded
+    private @MonotonicNonNull ImmutableList<DataQuery> queryParts; //lazy loaded
 
     /**
-     * Constructs a query using the given parts.
+     * Constructs a query that is made up of the parent query's parts
+     * followed by the given part.
      *
-     * @param parts The parts
+     * @param parent The parent query
+     * @param name The last part
      */
-    private DataQuery(final String... parts) {
-        this.parts = ImmutableList.copyOf(parts);
+    private DataQuery(final @Nullable DataQuery parent, final String name) {
+        this.parent = parent;
+        this.name = name;
+        if (parent == null) {
+            this.depth = 0;
+            this.hashCode = 31 + 1;
+        } else {
+            this.depth = parent.depth + 1;
+            // Same value as hashing the list of parts would produce
+            this.hashCode = 31 * parent.hashCode + name.hashCode() - 31 * 31 + 31;
+        }
     }
 
     /**
-     * Constructs a query using the given parts.
+     * Gets the interned query made up of this query's parts followed by the
+     * given part.
      *
-     * @param parts The parts
+     * @param name The part
+     * @return The child query
      */
-    private DataQuery(final List<String> parts) {
-        this.parts = ImmutableList.copyOf(parts);
+    private DataQuery child(final String name) {
+        Objects.requireNonNull(name, "name");
+        ConcurrentMap<String, DataQuery> children = this.children;
+        if (children == null) {
+            // Queries are shared instances, so no lock is taken on them
+            final ConcurrentMap<String, DataQuery> created = new MapMaker().weakValues().makeMap();
+            children = DataQuery.CHILDREN.compareAndSet(this, null, created) ? created : this.children;
+        }
+        final DataQuery child = children.get(name);
+        if (child != null) {
+            return child;
+        }
+        final DataQuery created = new DataQuery(this, name);
+        final DataQuery existing = children.putIfAbsent(name, created);
+        return existing == null ? created : existing;
     }
 
     /**
@@ -105,7 +139,30 @@ public static DataQuery of() {
      * @return The newly constructed {@link DataQuery}
      */
     public static DataQuery of(final char separator, final String path) {
-        return new DataQuery(separator, path);
+        // Splits the same way String#split does, trailing empty parts are
+        // dropped unless the separator doesn't occur at all
+        if (path.indexOf(separator) < 0) {
+            return DataQuery.EMPTY.child(path);
+        }
+        DataQuery query = DataQuery.EMPTY;
+        int pendingEmpty = 0;
+        int start = 0;
+        while (start <= path.length()) {
+            int end = path.indexOf(separator, start);
+            if (end < 0) {
+                end = path.length();
+            }
+            if (end == start) {
+                pendingEmpty++;
+            } else {
+                for (; pendingEmpty > 0; pendingEmpty--) {
+                    query = query.child("");
+                }
+                query = query.child(path.substring(start, end));
+            }
+            start = end + 1;
+        }
+        return query;
     }
 
     /**
@@ -115,10 +172,11 @@ public static DataQuery of(final char separator, final String path) {
      * @return The newly constructed {@link DataQuery}
      */
     public static DataQuery of(final String... parts) {
-        if (parts.length == 0) {
-            return DataQuery.EMPTY;
+        DataQuery query = DataQuery.EMPTY;
+        for (final String part : parts) {
+            query = query.child(part);
         }
-        return new DataQuery(parts);
+        return query;
     }
 
     /**
@@ -128,10 +186,11 @@ public static DataQuery of(final String... parts) {
      * @return The newly constructed {@link DataQuery}
      */
     public static DataQuery of(final List<String> parts) {
-        if (parts.isEmpty()) {
-            return DataQuery.EMPTY;
+        DataQuery query = DataQuery.EMPTY;
+        for (final String part : parts) {
+            query = query.child(part);
         }
-        return new DataQuery(parts);
+        return query;
     }
 
     /**
@@ -140,6 +199,15 @@ public static DataQuery of(final List<String> parts) {
      * @return The parts of this query
      */
     public List<String> parts() {
+        if (this.parts == null) {
+            final String[] parts = new String[this.depth];
+            DataQuery query = this;
+            for (int i = this.depth - 1; i >= 0; i--) {
+                parts[i] = query.name;
+                query = query.parent;
+            }
+            this.parts = ImmutableList.copyOf(parts);
+        }
         return this.parts;
     }
 
@@ -151,12 +219,17 @@ public List<String> parts() {
      * @return The constructed query
      */
     public DataQuery then(final DataQuery that) {
-        final ImmutableList.Builder<String> builder = new ImmutableList.Builder<>();
-
-        builder.addAll(this.parts);
-        builder.addAll(that.parts);
-
-        return new DataQuery(builder.build());
+        if (that.depth == 0) {
+            return this;
+        }
+        if (this.depth == 0) {
+            return that;
+        }
+        DataQuery query = this;
+        for (final String part : that.parts()) {
+            query = query.child(part);
+        }
+        return query;
     }
 
     /**
@@ -167,13 +240,7 @@ public DataQuery then(final DataQuery that) {
      * @return The constructed query
      */
     public DataQuery then(final String that) {
-        final ImmutableList.Builder<String> builder =
-            new ImmutableList.Builder<>();
-
-        builder.addAll(this.parts);
-        builder.add(that);
-
-        return new DataQuery(builder.build());
+        return this.child(that);
     }
 
     /**
@@ -186,7 +253,7 @@ public List<DataQuery> queryParts() {
         if (this.queryParts == null) {
             final ImmutableList.Builder<DataQuery> builder = ImmutableList.builder();
             for (final String part : this.parts()) {
-                builder.add(new DataQuery(part));
+                builder.add(DataQuery.EMPTY.child(part));
             }
             this.queryParts = builder.build();
         }
@@ -201,14 +268,10 @@ public List<DataQuery> queryParts() {
      * @return The next level query
      */
     public DataQuery pop() {
-        if (this.parts.size() <= 1) {
-            return DataQuery.of();
-        }
-        final ImmutableList.Builder<String> builder = ImmutableList.builder();
-        for (int i = 0; i < this.parts.size() - 1; i++) {
-            builder.add(this.parts.get(i));
+        if (this.parent == null) {
+            return DataQuery.EMPTY;
         }
-        return new DataQuery(builder.build());
+        return this.parent;
     }
 
     /**
@@ -219,14 +282,15 @@ public DataQuery pop() {
      * @return The next level query
      */
     public DataQuery popFirst() {
-        if (this.parts.size() <= 1) {
-            return DataQuery.of();
+        if (this.depth <= 1) {
+            return DataQuery.EMPTY;
         }
-        final ImmutableList.Builder<String> builder = ImmutableList.builder();
-        for (int i = 1; i < this.parts.size(); i++) {
-            builder.add(this.parts.get(i));
+        final List<String> parts = this.parts();
+        DataQuery query = DataQuery.EMPTY;
+        for (int i = 1; i < parts.size(); i++) {
+            query = query.child(parts.get(i));
         }
-        return new DataQuery(builder.build());
+        return query;
     }
 
     /**
@@ -236,10 +300,10 @@ public DataQuery popFirst() {
      * @return The last entry as a data query, if not already last
      */
     public DataQuery last() {
-        if (this.parts.size() <= 1) {
+        if (this.depth <= 1) {
             return this;
         }
-        return new DataQuery(this.parts.get(this.parts.size() - 1));
+        return DataQuery.EMPTY.child(this.name);
     }
 
     /**
@@ -250,7 +314,7 @@ public DataQuery last() {
      */
     public String asString(final String separator) {
         final StringJoiner stringJoiner = new StringJoiner(separator);
-        this.parts.forEach(stringJoiner::add);
+        this.parts().forEach(stringJoiner::add);
         return stringJoiner.toString();
     }
 
@@ -271,34 +335,28 @@ public String toString() {
 
     @Override
     public int hashCode() {
-        return Objects.hash(this.parts);
+        return this.hashCode;
     }
 
     @Override
-    public boolean equals(final Object obj) {
-        if (this == obj) {
-            return true;
-        }
-        if (obj == null || this.getClass() != obj.getClass()) {
-            return false;
-        }
-        final DataQuery other = (DataQuery) obj;
-        return Objects.equals(this.parts, other.parts);
+    public boolean equals(final @Nullable Object obj) {
+        // Queries are interned, equal queries are the same instance
+        return this == obj;
     }
 
     @Override
     public Iterator<String> iterator() {
-        return this.parts.iterator();
+        return this.parts().iterator();
     }
 
     @Override
     public void forEach(final Consumer<? super String> action) {
-        this.parts.forEach(action);
+        this.parts().forEach(action);
     }
 
     @Override
     public Spliterator<String> spliterator() {
-        return this.parts.spliterator();
+        return this.parts().spliterator();
     }
 
 }
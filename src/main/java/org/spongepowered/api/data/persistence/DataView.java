@@ -457,6 +457,90 @@ default Optional<List<ResourceKey>> getResourceKeyList(final DataQuery path) {
      */
     Optional<List<Long>> getLongList(DataQuery path);
 
+    /**
+     * Gets the array of {@code byte}s by path, if available.
+     *
+     * <p>If the data residing at the path is neither a {@code byte[]} nor a
+     * {@link List} of {@link Byte}, an absent is returned.</p>
+     *
+     * <p>Depending on the {@link #safetyMode()} of this view, the returned
+     * array may be the one backing this view and should not be modified.</p>
+     *
+     * @param path The path of the value to get
+     * @return The array of bytes, if available
+     */
+    default Optional<byte[]> getByteArray(final DataQuery path) {
+        Objects.requireNonNull(path, "path");
+
+        final Optional<Object> value = this.get(path);
+        if (value.isPresent() && value.get() instanceof byte[]) {
+            return Optional.of((byte[]) value.get());
+        }
+        return this.getByteList(path).map(list -> {
+            final byte[] array = new byte[list.size()];
+            for (int i = 0; i < array.length; i++) {
+                array[i] = list.get(i);
+            }
+            return array;
+        });
+    }
+
+    /**
+     * Gets the array of {@code int}s by path, if available.
+     *
+     * <p>If the data residing at the path is neither an {@code int[]} nor a
+     * {@link List} of {@link Integer}, an absent is returned.</p>
+     *
+     * <p>Depending on the {@link #safetyMode()} of this view, the returned
+     * array may be the one backing this view and should not be modified.</p>
+     *
+     * @param path The path of the value to get
+     * @return The array of integers, if available
+     */
+    default Optional<int[]> getIntArray(final DataQuery path) {
+        Objects.requireNonNull(path, "path");
+
+        final Optional<Object> value = this.get(path);
+        if (value.isPresent() && value.get() instanceof int[]) {
+            return Optional.of((int[]) value.get());
+        }
+        return this.getIntegerList(path).map(list -> {
+            final int[] array = new int[list.size()];
+            for (int i = 0; i < array.length; i++) {
+                array[i] = list.get(i);
+            }
+            return array;
+        });
+    }
+
+    /**
+     * Gets the array of {@code long}s by path, if available.
+     *
+     * <p>If the data residing at the path is neither a {@code long[]} nor a
+     * {@link List} of {@link Long}, an absent is returned.</p>
+     *
+     * <p>Depending on the {@link #safetyMode()} of this view, the returned
+     * array may be the one backing this view and should not be modified.</p>
+     *
+     * @param path The path of the value to get
+     * @return The array of longs, if available
+     */
+    default Optional<long[]> getLongArray(final DataQuery path) {
+        Objects.requireNonNull(path, "path");
+
+        final Optional<Object> value = this.get(path);
+        if (value.isPresent() && value.get() instanceof long[]) {
+            return Optional.of((long[]) value.get());
+        }
+        return this.getLongList(path).map(list -> {
+            final long[] array = new long[list.size()];
+            for (int i = 0; i < array.length; i++) {
+                array[i] = list.get(i);
+            }
+            return array;
+        });
+    }
+
     /**
      * Gets the {@link List} of {@link Float} by path, if available.
      *
@@ -0,0 +1,144 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.data.persistence;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * Receives the structure of serialized data as it is being read, without the
+ * data having to be materialized into a {@link DataContainer} first.
+ *
+ * <p>Every event is reported with the {@link DataQuery path} of the visited
+ * element. The root view has the empty {@link DataQuery#of() query}, and the
+ * contents of a view have the path of the view followed by their key.
+ * Elements of a list, whether they are values, views or lists themselves,
+ * have the path of the list they are contained in, so the contents of a view
+ * that is an element of the list {@code a} have the path {@code a} followed
+ * by their key. Separate elements of the same list are told apart by the
+ * order of the events, each element is completely visited before the next
+ * one starts.</p>
+ *
+ * @see DataFormat#readFrom(java.io.InputStream, DataVisitor)
+ */
+public interface DataVisitor {
+
+    /**
+     * Called when a {@link DataView} starts, including the root view which
+     * is visited with the empty {@link DataQuery#of() query}.
+     *
+     * <p>If the view is skipped, {@link #visitViewEnd(DataQuery)} is not
+     * called for it.</p>
+     *
+     * @param path The path of the view
+     * @return How to proceed with the contents of the view
+     */
+    Action visitViewStart(DataQuery path);
+
+    /**
+     * Called when all contents of a {@link DataView} have been visited.
+     *
+     * @param path The path of the view
+     */
+    void visitViewEnd(DataQuery path);
+
+    /**
+     * Called when a {@link java.util.List list} starts.
+     *
+     * <p>If the list is skipped, {@link #visitListEnd(DataQuery)} is not
+     * called for it.</p>
+     *
+     * @param path The path of the list
+     * @param size The number of elements in the list, or {@code -1} if not
+     *     known ahead of time by the format
+     * @return How to proceed with the elements of the list
+     */
+    Action visitListStart(DataQuery path, int size);
+
+    /**
+     * Called when all elements of a {@link java.util.List list} have been
+     * visited.
+     *
+     * @param path The path of the list
+     */
+    void visitListEnd(DataQuery path);
+
+    /**
+     * Called for every value that is neither a view nor a list. Primitive
+     * arrays are reported as a single value.
+     *
+     * @param path The path of the value
+     * @param value The value
+     * @return How to proceed, {@link Action#SKIP} is treated as
+     *     {@link Action#CONTINUE}
+     */
+    Action visitValue(DataQuery path, Object value);
+
+    /**
+     * Tells the reader how to proceed after an element has been visited.
+     */
+    enum Action {
+
+        /**
+         * Visits the contents of the element.
+         */
+        CONTINUE,
+        /**
+         * Skips the contents of the element without decoding them where the
+         * format allows it.
+         */
+        SKIP,
+        /**
+         * Stops reading entirely, no further events are reported.
+         */
+        STOP
+
+    }
+
+    /**
+     * A {@link DataVisitor} that writes the structure it visits in a
+     * specific {@link DataFormat} as it is visited.
+     *
+     * <p>Visiting must start with the root view. The returned
+     * {@link Action}s are always {@link Action#CONTINUE}, errors while
+     * writing are thrown as {@link UncheckedIOException}s.</p>
+     *
+     * @see DataFormat#writer(java.io.OutputStream)
+     */
+    interface Writer extends DataVisitor, Closeable {
+
+        /**
+         * Finishes writing and flushes the written data. The underlying
+         * stream is not closed.
+         *
+         * @throws IOException If there was an error writing to the stream
+         */
+        @Override
+        void close() throws IOException;
+
+    }
+
+}
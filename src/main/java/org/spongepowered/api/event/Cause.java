@@ -57,6 +57,9 @@
 @SuppressWarnings("unchecked")
 public final class Cause implements Iterable<Object> {
 
+    private static final int[] NO_INDICES = new int[0];
+    private static final int MAX_MEMOISED_TYPES = 8;
+
     /**
      * Creates a new {@link Builder} to make a new {@link Cause}.
      *
@@ -118,6 +121,9 @@ public static Cause of(final EventContext ctx, final Iterable<Object> iterable)
 
     // lazy load
     @Nullable private ImmutableList<Object> immutableCauses;
+    // lazy load, pairs of a queried class followed by the indices of the
+    // causes matching it, replaced as a whole when a pair is added
+    private volatile Object @Nullable [] indices;
 
     /**
      * Constructs a new cause.
@@ -178,12 +184,11 @@ public Object root() {
      * @return The first element of the type, if available
      */
     public <T> Optional<T> first(final Class<T> target) {
-        for (final Object aCause : this.cause) {
-            if (target.isInstance(aCause)) {
-                return Optional.of((T) aCause);
-            }
+        final int[] indices = this.indicesOf(target);
+        if (indices.length == 0) {
+            return Optional.empty();
         }
-        return Optional.empty();
+        return Optional.of((T) this.cause[indices[0]]);
     }
 
     /**
@@ -195,12 +200,11 @@ public <T> Optional<T> first(final Class<T> target) {
      * @return The last element of the type, if available
      */
     public <T> Optional<T> last(final Class<T> target) {
-        for (int i = this.cause.length - 1; i >= 0; i--) {
-            if (target.isInstance(this.cause[i])) {
-                return Optional.of((T) this.cause[i]);
-            }
+        final int[] indices = this.indicesOf(target);
+        if (indices.length == 0) {
+            return Optional.empty();
         }
-        return Optional.empty();
+        return Optional.of((T) this.cause[indices[indices.length - 1]]);
     }
 
     /**
@@ -217,9 +221,9 @@ public Optional<?> before(final Class<?> clazz) {
         if (this.cause.length == 1) {
             return Optional.empty();
         }
-        for (int i = 0; i < this.cause.length; i++) {
-            if (clazz.isInstance(this.cause[i]) && i > 0) {
-                return Optional.of(this.cause[i - 1]);
+        for (final int index : this.indicesOf(clazz)) {
+            if (index > 0) {
+                return Optional.of(this.cause[index - 1]);
             }
         }
         return Optional.empty();
@@ -239,12 +243,11 @@ public Optional<?> after(final Class<?> clazz) {
         if (this.cause.length == 1) {
             return Optional.empty();
         }
-        for (int i = 0; i < this.cause.length; i++) {
-            if (clazz.isInstance(this.cause[i]) && i + 1 < this.cause.length) {
-                return Optional.of(this.cause[i + 1]);
-            }
+        final int[] indices = this.indicesOf(clazz);
+        if (indices.length == 0 || indices[0] + 1 >= this.cause.length) {
+            return Optional.empty();
         }
-        return Optional.empty();
+        return Optional.of(this.cause[indices[0] + 1]);
     }
 
     /**
@@ -255,13 +258,7 @@ public Optional<?> after(final Class<?> clazz) {
      */
     public boolean containsType(final Class<?> target) {
         java.util.Objects.requireNonNull(target, "The provided class cannot be null!");
-        for (final Object aCause : this.cause) {
-            if (target.isInstance(aCause)) {
-                return true;
-            }
-        }
-
-        return false;
+        return this.indicesOf(target).length != 0;
     }
 
     /**
@@ -290,11 +287,13 @@ public boolean contains(final Object object) {
      * @return An immutable list of the objects queried
      */
     public <T> List<T> allOf(final Class<T> target) {
+        final int[] indices = this.indicesOf(target);
+        if (indices.length == 0) {
+            return ImmutableList.of();
+        }
         final ImmutableList.Builder<T> builder = ImmutableList.builder();
-        for (final Object aCause : this.cause) {
-            if (target.isInstance(aCause)) {
-                builder.add((T) aCause);
-            }
+        for (final int index : indices) {
+            builder.add((T) this.cause[index]);
         }
         return builder.build();
     }
@@ -391,6 +390,52 @@ public Cause with(final Cause cause) {
         return builder.build(this.context);
     }
 
+    /**
+     * Gets the indices of all causes that are instances of the given
+     * {@link Class}, in ascending order. The result is memoised per class so
+     * that repeated queries for the same type, as done by event filters for
+     * every listener, do not have to scan the causes again.
+     *
+     * @param target The class of the target type
+     * @return The indices of the matching causes
+     */
+    private int[] indicesOf(final Class<?> target) {
+        final Object[] indices = this.indices;
+        if (indices != null) {
+            for (int i = 0; i < indices.length; i += 2) {
+                if (indices[i] == target) {
+                    return (int[]) indices[i + 1];
+                }
+            }
+        }
+        int count = 0;
+        final int[] found = new int[this.cause.length];
+        for (int i = 0; i < this.cause.length; i++) {
+            if (target.isInstance(this.cause[i])) {
+                found[count++] = i;
+            }
+        }
+        final int[] matches;
+        if (count == 0) {
+            matches = Cause.NO_INDICES;
+        } else if (count == found.length) {
+            matches = found;
+        } else {
+            matches = Arrays.copyOf(found, count);
+        }
+        // Only a handful of types are ever queried on the same cause, stop
+        // memoising if that assumption doesn't hold to keep lookups cheap
+        if (indices == null) {
+            this.indices = new Object[] {target, matches};
+        } else if (indices.length < Cause.MAX_MEMOISED_TYPES * 2) {
+            final Object[] added = Arrays.copyOf(indices, indices.length + 2);
+            added[indices.length] = target;
+            added[indices.length + 1] = matches;
+            this.indices = added;
+        }
+        return matches;
+    }
+
     @Override
     public Iterator<Object> iterator() {
         return new Itr();
@@ -46,6 +46,10 @@ public interface CauseStackManager {
 
     /**
      * Gets the current {@link Cause} object from the current cause stack.
+     *
+     * <p>As causes are immutable, the same instance may be returned by
+     * successive calls for as long as no cause is pushed or popped and no
+     * context is added or removed in between.</p>
      * 
      * @return A cause of the current stack.
      */
@@ -54,6 +58,10 @@ public interface CauseStackManager {
     /**
      * Gets an {@link EventContext} object on the current contextual
      * information.
+     *
+     * <p>As contexts are immutable, the same instance may be returned by
+     * successive calls for as long as no context is added or removed in
+     * between.</p>
      * 
      * @return The current event context
      */
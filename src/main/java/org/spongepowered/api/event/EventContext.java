@@ -80,10 +80,58 @@ public static Builder builder() {
         return new Builder();
     }
 
-    private final Map<EventContextKey<?>, Object> entries;
+    // Open-addressed table with linear probing, the capacity is a power of two
+    // at least twice the size so there is always an empty slot to end a probe.
+    private final EventContextKey<?>[] keys;
+    private final Object[] values;
+    // The occupied slots, in the iteration order of the source map
+    private final int[] slots;
+
+    // lazy load
+    @Nullable private Map<EventContextKey<?>, Object> entries;
 
     EventContext(Map<EventContextKey<?>, Object> values) {
-        this.entries = ImmutableMap.copyOf(values);
+        final int size = values.size();
+        int capacity = 1;
+        while (capacity < size << 1) {
+            capacity <<= 1;
+        }
+        this.keys = new EventContextKey<?>[capacity];
+        this.values = new Object[capacity];
+        this.slots = new int[size];
+        final int mask = capacity - 1;
+        int slot = 0;
+        for (final Map.Entry<EventContextKey<?>, Object> entry : values.entrySet()) {
+            final EventContextKey<?> key = Objects.requireNonNull(entry.getKey(), "Context keys cannot be null");
+            int index = EventContext.spread(key.hashCode()) & mask;
+            while (this.keys[index] != null) {
+                index = (index + 1) & mask;
+            }
+            this.keys[index] = key;
+            this.values[index] = entry.getValue();
+            this.slots[slot++] = index;
+        }
+    }
+
+    private static int spread(final int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    @Nullable
+    private Object lookup(@Nullable final Object key) {
+        if (key == null) {
+            return null;
+        }
+        final int mask = this.keys.length - 1;
+        int index = EventContext.spread(key.hashCode()) & mask;
+        EventContextKey<?> candidate;
+        while ((candidate = this.keys[index]) != null) {
+            if (candidate == key || candidate.equals(key)) {
+                return this.values[index];
+            }
+            index = (index + 1) & mask;
+        }
+        return null;
     }
 
     /**
@@ -96,7 +144,7 @@ public static Builder builder() {
     @SuppressWarnings("unchecked")
     public <T> Optional<T> get(EventContextKey<T> key) {
         Objects.requireNonNull(key, "EventContextKey cannot be null");
-        return Optional.ofNullable((T) this.entries.get(key));
+        return Optional.ofNullable((T) this.lookup(key));
     }
 
     /**
@@ -109,7 +157,7 @@ public <T> Optional<T> get(EventContextKey<T> key) {
     @SuppressWarnings("unchecked")
     public <T> Optional<T> get(Supplier<EventContextKey<T>> key) {
         Objects.requireNonNull(key, "EventContextKey cannot be null");
-        return Optional.ofNullable((T) this.entries.get(key.get()));
+        return Optional.ofNullable((T) this.lookup(key.get()));
     }
 
     /**
@@ -156,7 +204,7 @@ public <T> T require(Supplier<EventContextKey<T>> key) {
      * @return True if the key is used and there is an entry for it
      */
     public boolean containsKey(EventContextKey<?> key) {
-        return this.entries.containsKey(key);
+        return this.lookup(key) != null;
     }
 
     /**
@@ -167,7 +215,7 @@ public boolean containsKey(EventContextKey<?> key) {
      * @return True if the key is used and there is an entry for it
      */
     public boolean containsKey(Supplier<? extends EventContextKey<?>> key) {
-        return this.entries.containsKey(key.get());
+        return this.lookup(key.get()) != null;
     }
 
     /**
@@ -176,7 +224,7 @@ public boolean containsKey(Supplier<? extends EventContextKey<?>> key) {
      * @return All present keys
      */
     public Set<EventContextKey<?>> keySet() {
-        return this.entries.keySet();
+        return this.asMap().keySet();
     }
 
     /**
@@ -185,6 +233,13 @@ public Set<EventContextKey<?>> keySet() {
      * @return A map view of this context
      */
     public Map<EventContextKey<?>, Object> asMap() {
+        if (this.entries == null) {
+            final ImmutableMap.Builder<EventContextKey<?>, Object> builder = ImmutableMap.builder();
+            for (final int slot : this.slots) {
+                builder.put(this.keys[slot], this.values[slot]);
+            }
+            this.entries = builder.build();
+        }
         return this.entries;
     }
 
@@ -197,12 +252,15 @@ public boolean equals(@Nullable Object object) {
             return false;
         }
         final EventContext ctx = (EventContext) object;
-        for (Map.Entry<EventContextKey<?>, Object> entry : this.entries.entrySet()) {
-            final Object other = ctx.entries.get(entry.getKey());
+        for (int i = 0; i < this.keys.length; i++) {
+            if (this.keys[i] == null) {
+                continue;
+            }
+            final Object other = ctx.lookup(this.keys[i]);
             if (other == null) {
                 return false;
             }
-            if (!entry.getValue().equals(other)) {
+            if (!this.values[i].equals(other)) {
                 return false;
             }
         }
@@ -211,14 +269,21 @@ public boolean equals(@Nullable Object object) {
 
     @Override
     public int hashCode() {
-        return this.entries.hashCode();
+        // Matches Map#hashCode so that contexts hash the same as their map view
+        int hash = 0;
+        for (int i = 0; i < this.keys.length; i++) {
+            if (this.keys[i] != null) {
+                hash += this.keys[i].hashCode() ^ this.values[i].hashCode();
+            }
+        }
+        return hash;
     }
 
     @Override
     public String toString() {
         final StringJoiner joiner = new StringJoiner(", ");
-        for (Map.Entry<EventContextKey<?>, Object> entry : this.entries.entrySet()) {
-            joiner.add("\"" + entry.getKey().toString() + "\"=" + entry.getValue().toString());
+        for (final int slot : this.slots) {
+            joiner.add("\"" + this.keys[slot].toString() + "\"=" + this.values[slot].toString());
         }
         return "Context[" + joiner.toString() + "]";
     }
@@ -271,7 +336,9 @@ public <T> Builder add(Supplier<EventContextKey<T>> key, T value) {
 
         @Override
         public Builder from(EventContext value) {
-            this.entries.putAll(value.entries);
+            for (final int slot : value.slots) {
+                this.entries.put(value.keys[slot], value.values[slot]);
+            }
             return this;
         }
 
@@ -56,6 +56,15 @@ static <T extends Event> EventListenerRegistration.Builder<T> builder(final Clas
 
     boolean beforeModifications();
 
+    /**
+     * Gets whether the {@link #listener()} can safely be called off the main
+     * thread when events are posted asynchronously.
+     *
+     * @return True if the listener is async safe
+     * @see EventManager#postAsync(Event)
+     */
+    boolean asyncSafe();
+
     EventListener<? super T> listener();
 
     interface Builder<T extends Event> extends ResettableBuilder<EventListenerRegistration<T>, Builder<T>> {
@@ -66,6 +75,15 @@ static <T extends Event> EventListenerRegistration.Builder<T> builder(final Clas
 
         Builder<T> beforeModifications(boolean beforeModifications);
 
+        /**
+         * Sets whether the listener can safely be called off the main thread,
+         * defaults to {@code false}.
+         *
+         * @param asyncSafe Whether the listener is async safe
+         * @return This builder, for chaining
+         */
+        Builder<T> asyncSafe(boolean asyncSafe);
+
         Builder<T> listener(EventListener<? super T> listener);
 
         EventListenerRegistration<T> build();
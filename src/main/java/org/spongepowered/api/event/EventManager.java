@@ -26,8 +26,17 @@
 
 import org.spongepowered.plugin.PluginContainer;
 
+import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
+
 /**
  * Manages the registration of event listeners and the dispatching of events.
+ *
+ * <p>The listeners that receive a given event type are resolved when
+ * listeners are registered or unregistered, not when an event is posted.
+ * Registering and unregistering listeners is therefore comparatively
+ * expensive and should not be done on a per-tick basis, whereas posting an
+ * event that has no listeners is cheap.</p>
  */
 public interface EventManager {
 
@@ -66,9 +75,61 @@ public interface EventManager {
     /**
      * Calls an {@link Event} to all listeners that listen to it.
      *
+     * <p>Listeners are called according to the {@link Order} they were
+     * registered with.</p>
+     *
      * @param event The event
      * @return True if cancelled, false if not
      */
     boolean post(Event event);
 
+    /**
+     * Calls an {@link Event} to all listeners that listen to it without
+     * blocking the calling thread.
+     *
+     * <p>Listeners that are {@link EventListenerRegistration#asyncSafe() async
+     * safe} are called off the main thread, all other listeners are called
+     * on the main thread. Listeners are still called according to their
+     * {@link Order}, the event hops between threads once every time the
+     * next listener differs from the previous one in whether it is async
+     * safe. The cancellation state of a {@link Cancellable} event carries
+     * across these hops.</p>
+     *
+     * @param event The event
+     * @return A future completing with true if cancelled, false if not
+     */
+    CompletableFuture<Boolean> postAsync(Event event);
+
+    /**
+     * Calls each {@link Event} to all listeners that listen to it, in the
+     * iteration order of the provided collection.
+     *
+     * <p>Events of the same type share a single resolution of their
+     * listeners. Whether a {@link Cancellable} event was cancelled can be
+     * checked through {@link Cancellable#isCancelled()} once this method
+     * returns.</p>
+     *
+     * @param events The events
+     */
+    void postAll(Collection<? extends Event> events);
+
+    /**
+     * Calls each {@link Event} to all listeners that listen to it without
+     * blocking the calling thread.
+     *
+     * <p>Listeners that are {@link EventListenerRegistration#asyncSafe() async
+     * safe} are called off the main thread, all other listeners are called
+     * on the main thread. Listeners are still called according to their
+     * {@link Order}, the whole batch is passed to a run of listeners on the
+     * same thread before it hops to the other thread. There is therefore a
+     * single hop per change between async safe and other listeners for the
+     * entire batch, rather than for every event. The cancellation state of a
+     * {@link Cancellable} event carries across these hops.</p>
+     *
+     * @param events The events
+     * @return A future completing once all events have been called
+     * @see #postAll(Collection)
+     */
+    CompletableFuture<Void> postAllAsync(Collection<? extends Event> events);
+
 }
@@ -28,6 +28,7 @@
 
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
 import java.util.UUID;
 
 /**
@@ -158,6 +159,31 @@ public interface ChannelBuf {
      */
     byte[] array() throws UnsupportedOperationException;
 
+    /**
+     * Exposes this buffer's readable bytes as a {@link ByteBuffer}. The
+     * returned buffer shares the content of this buffer where possible, so
+     * modifying it may affect this buffer's content, but it maintains its
+     * own position and limit. This method is identical to
+     * {@code buf.nioBuffer(buf.readerIndex(), buf.available())} and does
+     * not modify readerIndex or writerIndex of this buffer.
+     *
+     * @return The nio buffer
+     */
+    ByteBuffer nioBuffer();
+
+    /**
+     * Exposes this buffer's sub-region as a {@link ByteBuffer}. The returned
+     * buffer shares the content of this buffer where possible, so modifying
+     * it may affect this buffer's content, but it maintains its own position
+     * and limit. This method does not modify readerIndex or writerIndex of
+     * this buffer.
+     *
+     * @param index The starting index
+     * @param length The amount of bytes in the nio buffer
+     * @return The nio buffer
+     */
+    ByteBuffer nioBuffer(int index, int length);
+
     /**
      * Sets the specified boolean at the current writerIndex and increases
      * the writerIndex by 1 in this buffer.
@@ -350,6 +376,17 @@ public interface ChannelBuf {
      */
     ChannelBuf writeBytes(byte[] data, int start, int length);
 
+    /**
+     * Sets the remaining bytes of the specified {@link ByteBuffer} at the
+     * current writerIndex and increases the writerIndex by the number of
+     * bytes written. The position of the source buffer is increased by the
+     * same amount.
+     *
+     * @param data The source buffer
+     * @return This stream for chaining
+     */
+    ChannelBuf writeBytes(ByteBuffer data);
+
     /**
      * Sets the specified byte array at the specified absolute index in this
      * buffer. This method does not modify readerIndex or writerIndex
@@ -392,6 +429,19 @@ public interface ChannelBuf {
      */
     byte[] readBytes(int index, int length);
 
+    /**
+     * Transfers bytes at the current readerIndex into the specified
+     * {@link ByteBuffer} until it has no remaining space left, and increases
+     * the readerIndex by the number of bytes transferred. The position of
+     * the target buffer is increased by the same amount.
+     *
+     * @param data The target buffer
+     * @return This stream for chaining
+     * @throws IndexOutOfBoundsException If less bytes are available than
+     *     remain in the target buffer
+     */
+    ChannelBuf readBytes(ByteBuffer data);
+
     /**
      * Sets the specified short integer at the current writerIndex of this
      * buffer and increases the writerIndex by 2.
@@ -895,6 +945,86 @@ public interface ChannelBuf {
      */
     long getVarLong(int index);
 
+    /**
+     * Sets the specified array of varints at the current writerIndex and
+     * increases the writerIndex by the number of bytes written.
+     *
+     * <p>The length of the array is written preceding the data as a varint.
+     * The room needed for the entire array is ensured at once, instead of
+     * for every element.</p>
+     *
+     * @param data The varint array data
+     * @return This stream for chaining
+     * @see #writeVarInt(int)
+     */
+    ChannelBuf writeVarIntArray(int[] data);
+
+    /**
+     * Gets an array of varints at the current readerIndex and increases the
+     * readerIndex by the number of bytes read.
+     *
+     * <p>The length of the array is expected to be preceding the array as a
+     * varint.</p>
+     *
+     * @return The varint array
+     * @see #readVarInt()
+     */
+    int[] readVarIntArray();
+
+    /**
+     * Gets an array of varints at the current readerIndex and increases the
+     * readerIndex by the number of bytes read.
+     *
+     * <p>The length of the array is expected to be preceding the array as a
+     * varint.</p>
+     *
+     * @param limit The limit of the length of the array
+     * @return The varint array
+     * @see #readVarInt()
+     */
+    int[] readVarIntArray(int limit);
+
+    /**
+     * Sets the specified array of longs at the current writerIndex and
+     * increases the writerIndex by the number of bytes written.
+     *
+     * <p>The length of the array is written preceding the data as a varint,
+     * followed by every element as 8 bytes. The room needed for the entire
+     * array is ensured at once, instead of for every element.</p>
+     *
+     * @param data The long array data
+     * @return This stream for chaining
+     * @see #writeLong(long)
+     */
+    ChannelBuf writeLongArray(long[] data);
+
+    /**
+     * Gets an array of longs at the current readerIndex and increases the
+     * readerIndex by the number of bytes read.
+     *
+     * <p>The length of the array is expected to be preceding the array as a
+     * varint. All of the elements are bounds checked at once, before any of
+     * them is read.</p>
+     *
+     * @return The long array
+     * @see #readLong()
+     */
+    long[] readLongArray();
+
+    /**
+     * Gets an array of longs at the current readerIndex and increases the
+     * readerIndex by the number of bytes read.
+     *
+     * <p>The length of the array is expected to be preceding the array as a
+     * varint. All of the elements are bounds checked at once, before any of
+     * them is read.</p>
+     *
+     * @param limit The limit of the length of the array
+     * @return The long array
+     * @see #readLong()
+     */
+    long[] readLongArray(int limit);
+
     /**
      * Sets the specified string at the current writerIndex and increases the
      * writerIndex by the length of the string.
@@ -0,0 +1,158 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.network.channel.packet;
+
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.network.EngineConnection;
+
+/**
+ * Settings for bundling the {@link Packet}s that are sent through a
+ * {@link PacketChannel}.
+ *
+ * <p>While bundling is enabled, packets sent to the same
+ * {@link EngineConnection} are queued for the remainder of the tick and
+ * written as a single framed payload at the end of it, so the framing,
+ * channel key and flush are only paid once per connection and tick. The
+ * receiving side unpacks the bundle and passes every packet to its
+ * registered {@link PacketHandler} in the order it was sent.</p>
+ *
+ * <p>{@link RequestPacket}s and their responses are never delayed, they
+ * are sent immediately regardless of these settings. Both sides of the
+ * connection have to support the {@link PacketChannel}, packets to other
+ * connections are sent without bundling.</p>
+ *
+ * @see PacketChannel#setBundling(PacketBundling)
+ */
+public interface PacketBundling {
+
+    /**
+     * Creates a new {@link Builder} to build {@link PacketBundling} settings.
+     *
+     * @return The builder
+     */
+    static Builder builder() {
+        return Sponge.game().builderProvider().provide(Builder.class);
+    }
+
+    /**
+     * Gets the size in bytes above which a bundle is compressed before it is
+     * sent. A negative value disables compression.
+     *
+     * @return The compression threshold
+     */
+    int compressionThreshold();
+
+    /**
+     * Gets the maximum size in bytes of a single bundle. Once a bundle
+     * reaches this size it is sent right away, further packets are queued
+     * into a new bundle.
+     *
+     * @return The maximum bundle size
+     */
+    int maxBundleSize();
+
+    /**
+     * A builder for {@link PacketBundling} settings.
+     */
+    interface Builder extends org.spongepowered.api.util.Builder<PacketBundling, Builder> {
+
+        /**
+         * Sets the size in bytes above which a bundle is compressed. Defaults
+         * to {@code -1}, which disables compression.
+         *
+         * @param threshold The compression threshold
+         * @return This builder, for chaining
+         */
+        Builder compressionThreshold(int threshold);
+
+        /**
+         * Sets the maximum size in bytes of a single bundle.
+         *
+         * @param size The maximum bundle size
+         * @return This builder, for chaining
+         * @throws IllegalArgumentException If the size isn't positive
+         */
+        Builder maxBundleSize(int size);
+
+        @Override
+        PacketBundling build();
+    }
+
+    /**
+     * The statistics of the bundles sent through a {@link PacketChannel}.
+     */
+    interface Statistics {
+
+        /**
+         * Gets the number of bundles that were sent.
+         *
+         * @return The number of bundles
+         */
+        long bundles();
+
+        /**
+         * Gets the number of packets that were sent as part of a bundle.
+         *
+         * @return The number of packets
+         */
+        long packets();
+
+        /**
+         * Gets the number of bytes the bundled packets would have taken up
+         * if they were sent one by one.
+         *
+         * @return The number of bytes
+         */
+        long unbundledBytes();
+
+        /**
+         * Gets the number of bytes that were actually sent for the bundles,
+         * after compression.
+         *
+         * @return The number of bytes
+         */
+        long sentBytes();
+
+        /**
+         * Gets the average number of packets per bundle.
+         *
+         * @return The average number of packets per bundle
+         */
+        default double packetsPerBundle() {
+            final long bundles = this.bundles();
+            return bundles == 0 ? 0 : (double) this.packets() / bundles;
+        }
+
+        /**
+         * Gets the number of bytes that were saved by bundling and
+         * compressing the packets.
+         *
+         * @return The number of bytes saved
+         */
+        default long bytesSaved() {
+            return this.unbundledBytes() - this.sentBytes();
+        }
+    }
+}
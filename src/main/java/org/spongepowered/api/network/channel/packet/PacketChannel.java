@@ -24,10 +24,13 @@
  */
 package org.spongepowered.api.network.channel.packet;
 
+import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.api.network.EngineConnection;
 import org.spongepowered.api.network.channel.Channel;
 import org.spongepowered.api.network.channel.packet.basic.BasicPacketChannel;
 
+import java.util.Optional;
+
 /**
  * Represents an advanced channel binding that sends and receives packets. An
  * advantage over using a {@link BasicPacketChannel} is that it also supports
@@ -44,4 +47,28 @@
  */
 public interface PacketChannel extends Channel, TransactionalPacketRegistry, TransactionalPacketDispatcher {
 
+    /**
+     * Gets the {@link PacketBundling} settings of this channel, if bundling
+     * is enabled.
+     *
+     * @return The bundling settings, if bundling is enabled
+     */
+    Optional<PacketBundling> bundling();
+
+    /**
+     * Sets the {@link PacketBundling} settings of this channel. Bundling is
+     * disabled by default, passing {@code null} disables it again, in which
+     * case all queued packets are sent right away.
+     *
+     * @param bundling The bundling settings, or null to disable bundling
+     */
+    void setBundling(@Nullable PacketBundling bundling);
+
+    /**
+     * Gets the {@link PacketBundling.Statistics statistics} of the bundles
+     * sent through this channel so far.
+     *
+     * @return The bundling statistics
+     */
+    PacketBundling.Statistics bundlingStatistics();
 }
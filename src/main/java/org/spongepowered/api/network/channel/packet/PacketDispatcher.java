@@ -29,6 +29,10 @@
 import org.spongepowered.api.network.EngineConnection;
 import org.spongepowered.api.world.server.ServerWorld;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -56,9 +60,10 @@ public interface PacketDispatcher {
      * belongs to.</p>
      *
      * @param packet The packet to send
+     * @see #sendToPlayers(Collection, Packet)
      */
     default void sendToAllPlayers(final Packet packet) {
-        Sponge.server().onlinePlayers().forEach(player -> this.sendTo(player, packet));
+        this.sendToPlayers(Sponge.server().onlinePlayers(), packet);
     }
 
     /**
@@ -70,9 +75,32 @@ default void sendToAllPlayers(final Packet packet) {
      *
      * @param world The world
      * @param packet The packet to send
+     * @see #sendToPlayers(Collection, Packet)
      */
     default void sendToAllPlayersIn(final ServerWorld world, final Packet packet) {
-        world.players().forEach(player -> this.sendTo(player, packet));
+        this.sendToPlayers(world.players(), packet);
+    }
+
+    /**
+     * Sends the {@link Packet} to all the given players.
+     *
+     * <p>A exception will be thrown if the specified packet type
+     * isn't registered in the {@link PacketChannel} this dispatcher
+     * belongs to.</p>
+     *
+     * @param players The players to send the packet to
+     * @param packet The packet to send
+     * @return A future which will complete when the packet was sent to
+     *     every player
+     * @see #sendTo(Collection, Packet)
+     */
+    default CompletableFuture<Void> sendToPlayers(final Collection<? extends ServerPlayer> players, final Packet packet) {
+        Objects.requireNonNull(players, "players");
+        final List<EngineConnection> connections = new ArrayList<>(players.size());
+        for (final ServerPlayer player : players) {
+            connections.add(player.connection());
+        }
+        return this.sendTo(connections, packet);
     }
 
     /**
@@ -126,4 +154,36 @@ default CompletableFuture<Void> sendToServer(final Packet packet) {
      * @return A future which will complete when the operation has finished
      */
     CompletableFuture<Void> sendTo(EngineConnection connection, Packet packet);
+
+    /**
+     * Sends the {@link Packet} to the other side of all the given
+     * {@link EngineConnection}s using this channel.
+     *
+     * <p>Implementations should encode the packet only once into a
+     * read-only buffer and hand that same buffer to every connection,
+     * instead of encoding it again for each of them. This makes
+     * broadcasting a packet to many connections considerably cheaper
+     * than calling {@link #sendTo(EngineConnection, Packet)} for each
+     * one of them.</p>
+     *
+     * <p>A exception will be thrown if the specified packet type
+     * isn't registered in the {@link PacketChannel} this dispatcher
+     * belongs to.</p>
+     *
+     * @param connections The connections to send the packet to
+     * @param packet The packet to send
+     * @return A future which will complete when the packet was sent to
+     *     every connection, or exceptionally if sending it to any of them
+     *     failed
+     */
+    default CompletableFuture<Void> sendTo(final Collection<? extends EngineConnection> connections, final Packet packet) {
+        Objects.requireNonNull(connections, "connections");
+        Objects.requireNonNull(packet, "packet");
+        final CompletableFuture<?>[] futures = new CompletableFuture<?>[connections.size()];
+        int i = 0;
+        for (final EngineConnection connection : connections) {
+            futures[i++] = this.sendTo(connection, packet);
+        }
+        return CompletableFuture.allOf(futures);
+    }
 }
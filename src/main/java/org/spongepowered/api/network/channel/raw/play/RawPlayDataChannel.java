@@ -35,6 +35,10 @@
 import org.spongepowered.api.network.channel.raw.handshake.RawHandshakeDataChannel;
 import org.spongepowered.api.world.server.ServerWorld;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 
@@ -122,9 +126,10 @@ public interface RawPlayDataChannel {
      * Sends the raw payload to all players on the server.
      *
      * @param payload A consumer to write the data to
+     * @see #sendToPlayers(Collection, Consumer)
      */
     default void sendToAllPlayers(final Consumer<ChannelBuf> payload) {
-        Sponge.server().onlinePlayers().forEach(player -> this.sendTo(player, payload));
+        this.sendToPlayers(Sponge.server().onlinePlayers(), payload);
     }
 
     /**
@@ -136,9 +141,28 @@ default void sendToAllPlayers(final Consumer<ChannelBuf> payload) {
      *
      * @param world The world
      * @param payload A consumer to write the data to
+     * @see #sendToPlayers(Collection, Consumer)
      */
     default void sendToAllPlayersIn(final ServerWorld world, final Consumer<ChannelBuf> payload) {
-        world.players().forEach(player -> this.sendTo(player, payload));
+        this.sendToPlayers(world.players(), payload);
+    }
+
+    /**
+     * Sends the raw payload to all the given players.
+     *
+     * @param players The players to send the payload to
+     * @param payload A consumer to write the data to
+     * @return A future which will complete when the payload was sent to
+     *     every player
+     * @see #sendTo(Collection, Consumer)
+     */
+    default CompletableFuture<Void> sendToPlayers(final Collection<? extends ServerPlayer> players, final Consumer<ChannelBuf> payload) {
+        Objects.requireNonNull(players, "players");
+        final List<EngineConnection> connections = new ArrayList<>(players.size());
+        for (final ServerPlayer player : players) {
+            connections.add(player.connection());
+        }
+        return this.sendTo(connections, payload);
     }
 
     /**
@@ -176,4 +200,30 @@ default CompletableFuture<Void> sendToServer(final Consumer<ChannelBuf> payload)
      * @return A future which will complete when the operation has finished
      */
     CompletableFuture<Void> sendTo(EngineConnection connection, Consumer<ChannelBuf> payload);
+
+    /**
+     * Sends the raw payload to the other side of all the given
+     * {@link EngineConnection}s across this channel.
+     *
+     * <p>Implementations should invoke the payload consumer only once and
+     * hand the resulting read-only buffer to every connection, instead of
+     * writing the payload again for each of them. The consumer should
+     * therefore not depend on which connection the data is sent to.</p>
+     *
+     * @param connections The connections to send the payload to
+     * @param payload A consumer to write the data to
+     * @return A future which will complete when the payload was sent to
+     *     every connection, or exceptionally if sending it to any of them
+     *     failed
+     */
+    default CompletableFuture<Void> sendTo(final Collection<? extends EngineConnection> connections, final Consumer<ChannelBuf> payload) {
+        Objects.requireNonNull(connections, "connections");
+        Objects.requireNonNull(payload, "payload");
+        final CompletableFuture<?>[] futures = new CompletableFuture<?>[connections.size()];
+        int i = 0;
+        for (final EngineConnection connection : connections) {
+            futures[i++] = this.sendTo(connection, payload);
+        }
+        return CompletableFuture.allOf(futures);
+    }
 }
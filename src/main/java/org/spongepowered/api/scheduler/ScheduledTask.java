@@ -47,6 +47,9 @@ public interface ScheduledTask extends Nameable, Identifiable {
      * Cancels this scheduled task. Cancelling a repeating task
      * will prevent any further repetitions of the task.
      *
+     * <p>The task is removed from its {@link Scheduler} right away, this
+     * doesn't depend on the number of other scheduled tasks.</p>
+     *
      * @return If the task is not running and was cancelled
      */
     boolean cancel();
@@ -57,4 +60,13 @@ public interface ScheduledTask extends Nameable, Identifiable {
      * @return True if cancelled, false otherwise
      */
     boolean isCancelled();
+
+    /**
+     * Stops invoking this task for the remainder of the current tick, if
+     * it is a {@link Task#tickBudget() budgeted} task. The task is invoked
+     * again during the next tick.
+     *
+     * <p>This does nothing for tasks that aren't budgeted.</p>
+     */
+    void yieldTick();
 }
@@ -32,12 +32,21 @@
 
 import java.time.Duration;
 import java.time.temporal.TemporalUnit;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
 
 /**
  * A tick based priority scheduled list targeting specific types of
  * objects that need to be ticked. In common cases, there's either
  * a {@link BlockType} or {@link FluidType} being ticked.
+ *
+ * <p>Scheduled updates are indexed by the chunk section they are located
+ * in. Looking up the updates at a position only has to look at the updates
+ * within that section, and unloading a chunk only has to drop the updates
+ * of its sections.</p>
+ *
  * @param <T> The type of update objects that are being scheduled
  */
 public interface ScheduledUpdateList<T> {
@@ -266,6 +275,56 @@ default ScheduledUpdate<T> schedule(final int x, final int y, final int z, final
      */
     ScheduledUpdate<T> schedule(int x, int y, int z, T target, Ticks delay, TaskPriority priority);
 
+    /**
+     * Schedules new updates in this list for all of the given updates,
+     * using their {@link ScheduledUpdate#blockPosition() position},
+     * {@link ScheduledUpdate#target() target},
+     * {@link ScheduledUpdate#delay() delay} and
+     * {@link ScheduledUpdate#priority() priority}. The given updates may
+     * be scheduled in a different list, for example when copying updates
+     * from one world to another.
+     *
+     * <p>The updates are added to the index of each chunk section at once,
+     * which is considerably cheaper than scheduling thousands of updates
+     * one by one.</p>
+     *
+     * @param updates The updates to schedule
+     * @return The scheduled updates, in the order of the given updates
+     */
+    default Collection<? extends ScheduledUpdate<T>> scheduleAll(final Collection<? extends ScheduledUpdate<T>> updates) {
+        Objects.requireNonNull(updates, "updates");
+        final List<ScheduledUpdate<T>> scheduled = new ArrayList<>(updates.size());
+        for (final ScheduledUpdate<T> update : updates) {
+            final Vector3i pos = update.blockPosition();
+            scheduled.add(this.schedule(pos.x(), pos.y(), pos.z(), update.target(), update.delay(), update.priority()));
+        }
+        return scheduled;
+    }
+
+    /**
+     * Schedules new updates at all of the given positions, each with the
+     * same target, delay and priority.
+     *
+     * <p>The updates are added to the index of each chunk section at once,
+     * which is considerably cheaper than scheduling thousands of updates
+     * one by one.</p>
+     *
+     * @param positions The positions
+     * @param target The target
+     * @param delay The delay, in {@link Ticks}
+     * @param priority The priority of the scheduled updates
+     * @return The scheduled updates, in the order of the given positions
+     */
+    default Collection<? extends ScheduledUpdate<T>> scheduleAll(
+            final Collection<Vector3i> positions, final T target, final Ticks delay, final TaskPriority priority) {
+        Objects.requireNonNull(positions, "positions");
+        final List<ScheduledUpdate<T>> scheduled = new ArrayList<>(positions.size());
+        for (final Vector3i pos : positions) {
+            scheduled.add(this.schedule(pos.x(), pos.y(), pos.z(), target, delay, priority));
+        }
+        return scheduled;
+    }
+
     /**
      * Gets whether there's a scheduled update at the desired position with the provided target.
      *
@@ -278,6 +337,9 @@ default boolean isScheduled(final Vector3i pos, final T target) {
     }
 
     /**
+     * Gets whether there's a scheduled update at the desired position with
+     * the provided target. Only the updates within the chunk section
+     * containing the position are looked at.
      *
      * @param x The x coordinate
      * @param y The y coordinate
@@ -297,8 +359,10 @@ default Collection<? extends ScheduledUpdate<T>> scheduledAt(final Vector3i pos)
     }
 
     /**
-     * Gets a collection of scheduled updates at the desired position. There is
-     * no guarantee
+     * Gets a collection of scheduled updates at the desired position. Only
+     * the updates within the chunk section containing the position are
+     * looked at.
+     *
      * @param x The x coordinate
      * @param y The y coordinate
      * @param z The z coordinate
@@ -24,6 +24,7 @@
  */
 package org.spongepowered.api.scheduler;
 
+import org.spongepowered.api.Game;
 import org.spongepowered.plugin.PluginContainer;
 
 import java.util.Optional;
@@ -33,6 +34,17 @@
 
 /**
  * Represents a scheduler for running {@link Task tasks}.
+ *
+ * <p>Submitting a task, {@link ScheduledTask#cancel() cancelling} it and
+ * running it once it is due take constant time, regardless of how many
+ * tasks are scheduled. Pending tasks are not scanned every tick, so a large
+ * number of long delayed or repeating tasks doesn't slow down the
+ * scheduler.</p>
+ *
+ * <p>The synchronous scheduler runs tasks with a precision of one tick,
+ * the {@link Game#asyncScheduler() asynchronous scheduler} with a precision
+ * of one millisecond. Delays and intervals are rounded to that
+ * precision.</p>
  */
 public interface Scheduler {
 
@@ -77,6 +89,21 @@ public interface Scheduler {
      */
     TaskExecutorService executor(PluginContainer plugin);
 
+    /**
+     * Gets an {@link ExecutorService executor} that can be used to schedule
+     * tasks that may block their thread for a longer time through the
+     * standard Java concurrency interfaces.
+     *
+     * <p>All tasks scheduled through the returned executor are
+     * {@link Task#blocking() blocking}, it otherwise behaves the same as the
+     * executor returned by {@link #executor(PluginContainer)}.</p>
+     *
+     * @param plugin The plugin that will own the created tasks
+     * @return An executor that can be used to execute blocking tasks
+     * @see Task.Builder#blocking(boolean)
+     */
+    TaskExecutorService blockingExecutor(PluginContainer plugin);
+
     /**
      * Submit a {@link Task} to this scheduler and returns the task
      * as a {@link ScheduledTask}.
@@ -24,6 +24,8 @@
  */
 package org.spongepowered.api.scheduler;
 
+import org.spongepowered.api.Game;
+import org.spongepowered.api.Server;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.util.CopyableBuilder;
 import org.spongepowered.api.util.Ticks;
@@ -70,6 +72,25 @@ static Builder builder() {
      */
     Duration interval();
 
+    /**
+     * Gets whether this task may block its thread for a longer time, for
+     * example while waiting on database queries, http requests or file
+     * I/O.
+     *
+     * @return Whether this task may block
+     * @see Builder#blocking(boolean)
+     */
+    boolean blocking();
+
+    /**
+     * Gets the maximum amount of time this task may run for each tick. A
+     * budget of 0 represents that the task is not budgeted.
+     *
+     * @return The tick budget
+     * @see Builder#tickBudget(Duration)
+     */
+    Duration tickBudget();
+
     /**
      * Represents a builder to create a {@link Task}.
      */
@@ -216,12 +237,64 @@ default Builder interval(final long interval, final TimeUnit unit) {
          */
         Builder plugin(PluginContainer plugin);
 
+        /**
+         * Sets whether the task may block its thread for a longer time, for
+         * example while waiting on database queries, http requests or file
+         * I/O. By default, tasks are not blocking.
+         *
+         * <p>Blocking tasks submitted to the {@link Game#asyncScheduler()
+         * asynchronous scheduler} are run on virtual threads if the runtime
+         * supports them, or else on a separate pool of threads. Either way
+         * they don't take up the threads that run the other asynchronous
+         * tasks, so a slow database doesn't hold up the asynchronous tasks of
+         * every other plugin.</p>
+         *
+         * <p>A blocking task should avoid blocking while holding a monitor,
+         * as doing so pins the virtual thread it runs on to its carrier
+         * thread. The scheduler reports tasks that keep their virtual thread
+         * pinned for a longer time.</p>
+         *
+         * <p>This setting has no effect on tasks submitted to the
+         * synchronous scheduler, these always run on the main thread.</p>
+         *
+         * @param blocking Whether the task may block
+         * @return This builder, for chaining
+         */
+        Builder blocking(boolean blocking);
+
+        /**
+         * Sets the maximum amount of time the task may run for each tick,
+         * making it a budgeted task. By default, the budget is 0 and the
+         * task is not budgeted.
+         *
+         * <p>Budgeted tasks are run cooperatively, every tick after their
+         * delay until they are cancelled. The consumer of a budgeted task
+         * should do a small unit of work each time it is invoked, it is
+         * invoked repeatedly, round robin with the other budgeted tasks,
+         * until either its budget or the time left over in the tick is used
+         * up. The time left over is based on
+         * {@link Server#targetTicksPerSecond()} and the time the tick took so
+         * far. Work that doesn't fit in a tick is carried over to the next
+         * one, a task that has no more work to do for the current tick can
+         * call {@link ScheduledTask#yieldTick()}.</p>
+         *
+         * <p>This setting has no effect on tasks submitted to the
+         * {@link Game#asyncScheduler() asynchronous scheduler}.</p>
+         *
+         * @param budget The maximum run time per tick
+         * @return This builder, for chaining
+         * @throws IllegalArgumentException If the budget is below 0
+         */
+        Builder tickBudget(Duration budget);
+
         /**
          * Builds the task.
          *
          * @return A new instance of a {@link Task}
          * @throws IllegalStateException If the {@link #execute(Runnable)} isn't set or in the
-         * case that {@link #plugin(PluginContainer)} isn't set.
+         * case that {@link #plugin(PluginContainer)} isn't set, or if both an
+         * {@link #interval(Duration) interval} and a
+         * {@link #tickBudget(Duration) tick budget} are set.
          */
         @Override
         Task build();
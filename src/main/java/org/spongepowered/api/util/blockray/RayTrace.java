@@ -35,7 +35,11 @@
 import org.spongepowered.api.world.server.ServerWorld;
 import org.spongepowered.math.vector.Vector3d;
 
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Predicate;
 
 /**
@@ -110,6 +114,42 @@ static Predicate<LocatableBlock> nonAir() {
         return Sponge.game().factoryProvider().provide(Factory.class).notAir();
     }
 
+    /**
+     * Executes all of the given ray traces as a single batch.
+     *
+     * <p>The rays are traversed block by block, and every chunk section they
+     * pass through is only looked up once for the whole batch, no matter how
+     * many of the rays pass through it.</p>
+     *
+     * @param rayTraces The ray traces to execute
+     * @param <T> The type of {@link Locatable} the ray traces select
+     * @return The result of each ray trace, in the iteration order of the
+     *      given ray traces
+     * @see #execute()
+     */
+    static <T extends Locatable> List<Optional<RayTraceResult<T>>> executeAll(final Collection<? extends RayTrace<T>> rayTraces) {
+        return Sponge.game().factoryProvider().provide(Factory.class).executeAll(Objects.requireNonNull(rayTraces, "rayTraces"));
+    }
+
+    /**
+     * Executes all of the given block ray traces as a single batch off of
+     * the main thread.
+     *
+     * <p>The chunk sections the rays may pass through are copied on the main
+     * thread, after which the rays are traversed against the copies. Any
+     * predicate of the ray traces is therefore called off of the main thread
+     * and must not access the world directly.</p>
+     *
+     * @param rayTraces The ray traces to execute
+     * @return A future completing with the result of each ray trace, in the
+     *      iteration order of the given ray traces
+     * @see #executeAll(Collection)
+     */
+    static CompletableFuture<List<Optional<RayTraceResult<LocatableBlock>>>> executeAllAsync(
+        final Collection<? extends RayTrace<LocatableBlock>> rayTraces) {
+        return Sponge.game().factoryProvider().provide(Factory.class).executeAllAsync(Objects.requireNonNull(rayTraces, "rayTraces"));
+    }
+
     /**
      * Sets the {@link ServerWorld} to perform the ray trace in.
      *
@@ -332,6 +372,17 @@ interface Factory {
          */
         Predicate<LocatableBlock> notAir();
 
+        /**
+         * @see RayTrace#executeAll(Collection)
+         */
+        <T extends Locatable> List<Optional<RayTraceResult<T>>> executeAll(Collection<? extends RayTrace<T>> rayTraces);
+
+        /**
+         * @see RayTrace#executeAllAsync(Collection)
+         */
+        CompletableFuture<List<Optional<RayTraceResult<LocatableBlock>>>> executeAllAsync(
+            Collection<? extends RayTrace<LocatableBlock>> rayTraces);
+
     }
 
 }
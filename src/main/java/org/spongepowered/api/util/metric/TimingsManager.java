@@ -0,0 +1,224 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.util.metric;
+
+import org.spongepowered.api.command.manager.CommandManager;
+import org.spongepowered.api.data.persistence.DataFormats;
+import org.spongepowered.api.data.persistence.DataSerializable;
+import org.spongepowered.api.event.EventListenerRegistration;
+import org.spongepowered.api.scheduler.ScheduledTask;
+import org.spongepowered.plugin.PluginContainer;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Records how much time the code of each plugin takes up.
+ *
+ * <p>Timings are recorded per {@link PluginContainer} for every
+ * {@link ScheduledTask}, every listener registered through an
+ * {@link EventListenerRegistration} and every command executed through
+ * {@link CommandManager#process(String)}. Invocations are always counted,
+ * execution times and allocations are only measured for a
+ * {@link #sampleRate() sampled} fraction of the invocations, which keeps
+ * the overhead low enough to leave timings enabled on production
+ * servers.</p>
+ *
+ * <p>{@link Snapshot}s are {@link DataSerializable}, they can be exported
+ * in a machine readable format through for example
+ * {@link DataFormats#JSON}.</p>
+ */
+public interface TimingsManager {
+
+    /**
+     * Gets the fraction of invocations, between {@code 0} and {@code 1},
+     * whose execution time and allocations are measured.
+     *
+     * @return The sample rate
+     */
+    double sampleRate();
+
+    /**
+     * Sets the fraction of invocations, between {@code 0} and {@code 1},
+     * whose execution time and allocations are measured. A sample rate of
+     * {@code 0} only counts invocations.
+     *
+     * @param sampleRate The sample rate
+     * @throws IllegalArgumentException If the sample rate isn't between
+     *     {@code 0} and {@code 1}
+     */
+    void setSampleRate(double sampleRate);
+
+    /**
+     * Takes a {@link Snapshot} of the timings recorded for the given plugin
+     * since the timings were last {@link #reset()}.
+     *
+     * @param plugin The plugin
+     * @return The snapshot
+     */
+    Snapshot snapshot(PluginContainer plugin);
+
+    /**
+     * Takes a {@link Snapshot} of the timings recorded for every plugin
+     * since the timings were last {@link #reset()}.
+     *
+     * @return The snapshots, by plugin
+     */
+    Map<PluginContainer, Snapshot> snapshots();
+
+    /**
+     * Discards all timings recorded so far.
+     */
+    void reset();
+
+    /**
+     * The timings recorded for a single plugin. A snapshot doesn't change
+     * after it was taken.
+     */
+    interface Snapshot extends DataSerializable {
+
+        /**
+         * Gets the plugin the timings were recorded for.
+         *
+         * @return The plugin
+         */
+        PluginContainer plugin();
+
+        /**
+         * Gets the time the recording of these timings started at.
+         *
+         * @return The start of the recording
+         */
+        Instant start();
+
+        /**
+         * Gets the time this snapshot was taken at.
+         *
+         * @return The end of the recording
+         */
+        Instant end();
+
+        /**
+         * Gets the timings of all the plugin's tasks, listeners and
+         * commands combined.
+         *
+         * @return The combined timing
+         */
+        Timing total();
+
+        /**
+         * Gets the timings of the plugin's {@link ScheduledTask}s, by
+         * {@link ScheduledTask#name() task name}.
+         *
+         * @return The task timings
+         */
+        Map<String, Timing> tasks();
+
+        /**
+         * Gets the timings of the plugin's event listeners, by the name of
+         * the event type they listen to.
+         *
+         * @return The listener timings
+         */
+        Map<String, Timing> listeners();
+
+        /**
+         * Gets the timings of the plugin's commands, by primary command
+         * alias.
+         *
+         * @return The command timings
+         */
+        Map<String, Timing> commands();
+    }
+
+    /**
+     * The recorded timing of a single task, listener or command, or a
+     * combination of them.
+     */
+    interface Timing {
+
+        /**
+         * Gets the number of times it was invoked.
+         *
+         * @return The number of invocations
+         */
+        long invocations();
+
+        /**
+         * Gets the number of invocations whose execution time and
+         * allocations were measured.
+         *
+         * @return The number of sampled invocations
+         */
+        long samples();
+
+        /**
+         * Gets the estimated total execution time of all invocations,
+         * extrapolated from the sampled invocations.
+         *
+         * @return The total execution time
+         */
+        Duration totalTime();
+
+        /**
+         * Gets the longest execution time of the sampled invocations.
+         *
+         * @return The longest execution time
+         */
+        Duration maxTime();
+
+        /**
+         * Gets the execution time below which the given fraction of the
+         * sampled invocations fall, taken from a histogram of the execution
+         * times.
+         *
+         * @param percentile The percentile, between {@code 0} and {@code 1}
+         * @return The execution time
+         * @throws IllegalArgumentException If the percentile isn't between
+         *     {@code 0} and {@code 1}
+         */
+        Duration percentile(double percentile);
+
+        /**
+         * Gets the estimated number of bytes allocated by all invocations,
+         * extrapolated from the sampled invocations, or {@code -1} if the
+         * runtime doesn't support measuring allocations.
+         *
+         * @return The estimated allocated bytes
+         */
+        long allocatedBytes();
+
+        /**
+         * Gets the average execution time of the sampled invocations.
+         *
+         * @return The average execution time
+         */
+        default Duration averageTime() {
+            final long invocations = this.invocations();
+            return invocations == 0 ? Duration.ZERO : this.totalTime().dividedBy(invocations);
+        }
+    }
+}
@@ -32,6 +32,7 @@
 import java.util.Objects;
 import java.util.Random;
 import java.util.StringJoiner;
+import java.util.function.Consumer;
 
 /**
  * Represents a pool of tables which are rolled sequentially when retrieving
@@ -108,6 +109,21 @@ public List<T> get(final Random rand) {
         return results;
     }
 
+    /**
+     * Passes the objects retrieved from all pools to the given
+     * {@link Consumer}, without collecting them into a list first.
+     *
+     * @param rand The random object to use
+     * @param consumer The consumer to accept the retrieved entries
+     */
+    public void get(final Random rand, final Consumer<? super T> consumer) {
+        Objects.requireNonNull(rand, "rand");
+        Objects.requireNonNull(consumer, "consumer");
+        for (final RandomObjectTable<T> pool : this.pool) {
+            pool.get(rand, consumer);
+        }
+    }
+
     @Override
     public boolean equals(final Object o) {
         if (o == this) {
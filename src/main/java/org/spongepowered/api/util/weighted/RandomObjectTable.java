@@ -32,6 +32,7 @@
 import java.util.List;
 import java.util.Objects;
 import java.util.Random;
+import java.util.function.Consumer;
 
 /**
  * An abstract table holding weighted objects. Objects may be retrieved from the
@@ -242,6 +243,18 @@ public int size() {
      */
     public abstract List<T> get(Random rand);
 
+    /**
+     * Performs a number of rolls according to the number of rolls defined by
+     * {@link #rolls()} and passes the items retrieved from the table for each
+     * roll to the given {@link Consumer}.
+     *
+     * @param rand The random object to use
+     * @param consumer The consumer to accept the retrieved items
+     */
+    public void get(final Random rand, final Consumer<? super T> consumer) {
+        this.get(rand).forEach(consumer);
+    }
+
     /**
      * Gets the entries in the table. Note that the specific sub class of this
      * abstract table will determine the context that the entry weights should
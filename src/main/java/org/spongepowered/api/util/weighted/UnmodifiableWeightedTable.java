@@ -179,6 +179,16 @@ public List<T> get(final Random rand) {
         return this.table.get(rand);
     }
 
+    @Override
+    public void get(final Random rand, final Consumer<? super T> consumer) {
+        this.table.get(rand, consumer);
+    }
+
+    @Override
+    public void get(final Random rand, final int rolls, final Consumer<? super T> consumer) {
+        this.table.get(rand, rolls, consumer);
+    }
+
     @Override
     public boolean containsObject(final Object obj) {
         return this.table.containsObject(obj);
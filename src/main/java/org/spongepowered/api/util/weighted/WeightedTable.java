@@ -25,23 +25,39 @@
 package org.spongepowered.api.util.weighted;
 
 import com.google.common.collect.Lists;
+import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Objects;
 import java.util.Random;
+import java.util.function.Consumer;
 
 /**
  * A table of weighted entry, each entry is given a weight, the higher the
  * weight the more likely the chance that the entry is chosen. Each roll will
  * only return a single entries value.
  *
+ * <p>Rolls are sampled from an alias table (Vose's method), which takes
+ * constant time regardless of the number of entries. The alias table is
+ * rebuilt lazily on the first roll after the entries of the table
+ * changed. Rolls of a table that isn't modified anymore may be performed
+ * from multiple threads at once.</p>
+ *
+ * <p>Note that the alias table maps a random value to a different entry than
+ * walking the entries in order did, the distribution of the rolls stays the
+ * same but a {@link Random} with a given seed doesn't produce the same rolls
+ * as before.</p>
+ *
  * @param <T> The entry type
  */
 public class WeightedTable<T> extends RandomObjectTable<T> {
 
     private double totalWeight = 0;
 
+    private volatile @Nullable AliasTable aliasTable; //lazy loaded
+
     /**
      * Creates a new {@link WeightedTable} with a default roll
      * count of {@code 1}.
@@ -143,6 +159,7 @@ public void clear() {
      * Recalculates the total weight of all entries in this table.
      */
     protected void recalculateWeight() {
+        this.aliasTable = null;
         this.totalWeight = 0;
         for (Iterator<TableEntry<T>> it = this.entries.iterator(); it.hasNext();) {
             final TableEntry<T> entry = it.next();
@@ -163,23 +180,108 @@ public List<T> get(Random rand) {
         if (this.entries.isEmpty()) {
             return results;
         }
-        final int rolls = this.rolls().flooredAmount(rand);
+        this.get(rand, Math.max(0, this.rolls().flooredAmount(rand)), results::add);
+        return results;
+    }
+
+    @Override
+    public void get(final Random rand, final Consumer<? super T> consumer) {
+        if (this.entries.isEmpty()) {
+            return;
+        }
+        this.get(rand, Math.max(0, this.rolls().flooredAmount(rand)), consumer);
+    }
+
+    /**
+     * Performs the given number of rolls and passes the items retrieved from
+     * the table for each roll to the given {@link Consumer}, without
+     * collecting them into a list first.
+     *
+     * @param rand The random object to use
+     * @param rolls The number of rolls to perform
+     * @param consumer The consumer to accept the retrieved items
+     */
+    public void get(final Random rand, final int rolls, final Consumer<? super T> consumer) {
+        Objects.requireNonNull(rand, "rand");
+        Objects.requireNonNull(consumer, "consumer");
+        if (rolls < 0) {
+            throw new IllegalArgumentException("Rolls cannot be negative!");
+        }
+        if (this.entries.isEmpty()) {
+            return;
+        }
+        AliasTable aliasTable = this.aliasTable;
+        if (aliasTable == null) {
+            aliasTable = this.buildAliasTable();
+            this.aliasTable = aliasTable;
+        }
+        final double[] probabilities = aliasTable.probabilities;
+        final int[] aliases = aliasTable.aliases;
+        final int size = probabilities.length;
         for (int i = 0; i < rolls; i++) {
-            double roll = rand.nextDouble() * this.totalWeight;
-            for (Iterator<TableEntry<T>> it = this.entries.iterator(); it.hasNext();) {
-                final TableEntry<T> next = it.next();
-                roll -= next.weight();
-                if (roll <= 0) {
-                    if (next instanceof NestedTableEntry) {
-                        results.addAll(((NestedTableEntry<T>) next).get(rand));
-                    } else if (next instanceof WeightedObject) {
-                        results.add(((WeightedObject<T>) next).get());
-                    }
-                    break;
-                }
+            // A single double picks both the column and the biased coin flip
+            final double roll = rand.nextDouble() * size;
+            final int column = Math.min((int) roll, size - 1);
+            final int index = roll - column < probabilities[column] ? column : aliases[column];
+            final TableEntry<T> next = this.entries.get(index);
+            if (next instanceof NestedTableEntry) {
+                ((NestedTableEntry<T>) next).get(rand).forEach(consumer);
+            } else if (next instanceof WeightedObject) {
+                consumer.accept(((WeightedObject<T>) next).get());
             }
         }
-        return results;
+    }
+
+    /**
+     * Builds the alias table for the current entries using Vose's method.
+     *
+     * @return The alias table
+     */
+    private AliasTable buildAliasTable() {
+        final int size = this.entries.size();
+        final double[] probabilities = new double[size];
+        final int[] aliases = new int[size];
+        if (this.totalWeight <= 0) {
+            // Nothing has any weight, always pick the first entry
+            return new AliasTable(probabilities, aliases);
+        }
+        final double[] scaled = new double[size];
+        final int[] small = new int[size];
+        final int[] large = new int[size];
+        int smallCount = 0;
+        int largeCount = 0;
+        for (int i = 0; i < size; i++) {
+            scaled[i] = this.entries.get(i).weight() * size / this.totalWeight;
+            if (scaled[i] < 1) {
+                small[smallCount++] = i;
+            } else {
+                large[largeCount++] = i;
+            }
+        }
+        while (smallCount > 0 && largeCount > 0) {
+            final int less = small[--smallCount];
+            final int more = large[--largeCount];
+            probabilities[less] = scaled[less];
+            aliases[less] = more;
+            scaled[more] = scaled[more] + scaled[less] - 1;
+            if (scaled[more] < 1) {
+                small[smallCount++] = more;
+            } else {
+                large[largeCount++] = more;
+            }
+        }
+        // Whatever is left over is only off from 1 by rounding errors
+        while (largeCount > 0) {
+            final int index = large[--largeCount];
+            probabilities[index] = 1;
+            aliases[index] = index;
+        }
+        while (smallCount > 0) {
+            final int index = small[--smallCount];
+            probabilities[index] = 1;
+            aliases[index] = index;
+        }
+        return new AliasTable(probabilities, aliases);
     }
 
     @Override
@@ -232,6 +334,22 @@ public String toString() {
         return r.toString();
     }
 
+    /**
+     * An alias table, {@code probabilities[i]} is the chance that column
+     * {@code i} picks entry {@code i} instead of entry {@code aliases[i]}.
+     */
+    private static final class AliasTable {
+
+        final double[] probabilities;
+        final int[] aliases;
+
+        AliasTable(final double[] probabilities, final int[] aliases) {
+            this.probabilities = probabilities;
+            this.aliases = aliases;
+        }
+
+    }
+
     /**
      * An iterator which will properly trigger a rebuild of the total weight on
      * removal.
@@ -27,10 +27,13 @@
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.block.BlockState;
 import org.spongepowered.api.block.BlockType;
+import org.spongepowered.api.data.persistence.DataFormat;
 import org.spongepowered.api.data.persistence.DataView;
 import org.spongepowered.api.entity.EntityArchetype;
+import org.spongepowered.api.event.cause.entity.SpawnType;
 import org.spongepowered.api.util.CopyableBuilder;
 import org.spongepowered.api.world.biome.Biome;
+import org.spongepowered.api.world.server.ServerWorld;
 import org.spongepowered.api.world.volume.archetype.ArchetypeVolume;
 import org.spongepowered.api.world.volume.archetype.ArchetypeVolumeCreator;
 import org.spongepowered.api.world.volume.archetype.entity.EntityArchetypeEntry;
@@ -39,8 +42,16 @@
 import org.spongepowered.api.world.volume.block.entity.BlockEntityVolume;
 import org.spongepowered.api.world.volume.game.LocationBaseDataHolder;
 import org.spongepowered.math.vector.Vector3d;
+import org.spongepowered.math.vector.Vector3i;
 
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.Collection;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 /**
  * A special archetype volume designed to be persisted. Contains additional
@@ -62,6 +73,22 @@ static Builder builder() {
         return Sponge.game().builderProvider().provide(Builder.class);
     }
 
+    /**
+     * Opens a {@link SectionReader} that reads a schematic section by section
+     * from the given {@link InputStream}, without the whole schematic ever
+     * being held in memory.
+     *
+     * @param format The format the schematic is stored in
+     * @param input The input stream
+     * @return The reader
+     * @throws IOException If there was an error reading the header of the
+     *         schematic
+     */
+    static SectionReader reader(final DataFormat format, final InputStream input) throws IOException {
+        return Sponge.game().factoryProvider().provide(Factory.class).reader(
+            Objects.requireNonNull(format, "format"), Objects.requireNonNull(input, "input"));
+    }
+
     /**
      * Gets the {@link Palette} used by this schematic for serialization.
      *
@@ -188,5 +215,135 @@ interface Builder extends org.spongepowered.api.util.Builder<Schematic, Builder>
         @Override
         Schematic build() throws IllegalArgumentException;
 
+        /**
+         * Opens a {@link SectionWriter} that writes a schematic with the
+         * palettes and metadata specified in this builder to the given
+         * {@link OutputStream}. Instead of being specified on this builder,
+         * the contents of the schematic are written section by section
+         * through the returned writer.
+         *
+         * @param format The format to write the schematic in
+         * @param output The output stream
+         * @param min The minimum position of the schematic
+         * @param max The maximum position of the schematic
+         * @return The writer
+         * @throws IOException If there was an error writing the header of the
+         *         schematic
+         */
+        SectionWriter writer(DataFormat format, OutputStream output, Vector3i min, Vector3i max) throws IOException;
+
+    }
+
+    /**
+     * Reads a {@link Schematic} in ordered, chunk section sized
+     * {@link ArchetypeVolume}s, so only a single section and the header of
+     * the schematic are held in memory at a time.
+     */
+    interface SectionReader extends Closeable {
+
+        /**
+         * Gets the minimum position of the schematic being read.
+         *
+         * @return The minimum position
+         */
+        Vector3i min();
+
+        /**
+         * Gets the maximum position of the schematic being read.
+         *
+         * @return The maximum position
+         */
+        Vector3i max();
+
+        /**
+         * Gets the {@link Palette} used by the schematic being read.
+         *
+         * @return The block palette
+         */
+        Palette<BlockState, BlockType> blockPalette();
+
+        /**
+         * Gets the {@link Palette} of biomes used by the schematic being
+         * read.
+         *
+         * @return The biome palette
+         */
+        Palette<Biome, Biome> biomePalette();
+
+        /**
+         * Gets the metadata of the schematic being read.
+         *
+         * @return The metadata
+         */
+        DataView metadata();
+
+        /**
+         * Reads the next section of the schematic.
+         *
+         * <p>Sections are aligned to chunk sections and keep the positions
+         * they have in the schematic. Block entities and entities are part of
+         * the section their position is in.</p>
+         *
+         * @return The next section, or {@link Optional#empty()} once all
+         *     sections have been read
+         * @throws IOException If there was an error reading the section
+         */
+        Optional<ArchetypeVolume> next() throws IOException;
+
+        /**
+         * Reads all remaining sections and applies each of them onto the
+         * target {@link ServerWorld world} as it is read.
+         *
+         * @param target The target world
+         * @param placement The target origin
+         * @param spawnContext The context value used for processing spawn
+         *     entities
+         * @throws IOException If there was an error reading a section
+         * @see ArchetypeVolume#applyToWorld(ServerWorld, Vector3i, Supplier)
+         */
+        default void applyToWorld(final ServerWorld target, final Vector3i placement, final Supplier<SpawnType> spawnContext)
+            throws IOException {
+            Optional<ArchetypeVolume> section;
+            while ((section = this.next()).isPresent()) {
+                section.get().applyToWorld(target, placement, spawnContext);
+            }
+        }
+
+    }
+
+    /**
+     * Writes a {@link Schematic} section by section.
+     *
+     * @see Builder#writer(DataFormat, OutputStream, Vector3i, Vector3i)
+     */
+    interface SectionWriter extends Closeable {
+
+        /**
+         * Writes the contents of the given section.
+         *
+         * <p>Sections must be aligned to chunk sections, lie within the
+         * bounds of the schematic and be written in ascending order of their
+         * minimum position, first by y, then z, then x.</p>
+         *
+         * @param section The section to write
+         * @throws IOException If there was an error writing the section
+         */
+        void write(ArchetypeVolume section) throws IOException;
+
+        /**
+         * Finishes writing the schematic. The underlying stream is not
+         * closed.
+         *
+         * @throws IOException If there was an error writing the schematic
+         */
+        @Override
+        void close() throws IOException;
+
+    }
+
+    interface Factory {
+
+        SectionReader reader(DataFormat format, InputStream input) throws IOException;
+
     }
 }
@@ -0,0 +1,140 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.volume.archetype;
+
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.event.cause.entity.SpawnType;
+import org.spongepowered.api.world.server.ChunkManager;
+import org.spongepowered.api.world.server.ServerWorld;
+import org.spongepowered.math.vector.Vector3i;
+import org.spongepowered.plugin.PluginContainer;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * A handle for an {@link ArchetypeVolume} that is being applied onto a
+ * {@link ServerWorld} over the course of multiple ticks.
+ *
+ * <p>The volume is split into chunk aligned jobs which are applied on the
+ * main thread, each tick only applying as many jobs as fit within the
+ * {@link Options#tickBudget() tick budget}. Chunks ahead of the job being
+ * applied are kept loaded through {@link ChunkManager} tickets.</p>
+ *
+ * @see ArchetypeVolume#applyToWorld(PluginContainer, ServerWorld, Vector3i, Supplier, Options)
+ */
+public interface ArchetypePlacement {
+
+    /**
+     * Gets the future that completes once the entire volume has been
+     * applied.
+     *
+     * <p>If the placement is {@link #cancel(boolean) cancelled}, the future
+     * completes exceptionally with a {@link CancellationException}.</p>
+     *
+     * @return The future
+     */
+    CompletableFuture<Void> completion();
+
+    /**
+     * Gets the fraction of the volume that has been applied so far, between
+     * {@code 0} and {@code 1}.
+     *
+     * @return The progress
+     */
+    double progress();
+
+    /**
+     * Cancels this placement, no further jobs will be applied.
+     *
+     * <p>Rolling back restores the area to the state it was in before the
+     * placement started, which is only possible if the placement was
+     * started with {@link Options#captureSnapshot()}.</p>
+     *
+     * @param rollback Whether to roll back the already applied jobs
+     * @return False if the placement had already completed or been cancelled
+     * @throws IllegalStateException If a rollback is requested but no
+     *     snapshot was captured
+     */
+    boolean cancel(boolean rollback);
+
+    /**
+     * Options controlling how an {@link ArchetypePlacement} is spread over
+     * ticks.
+     */
+    interface Options {
+
+        static Builder builder() {
+            return Sponge.game().builderProvider().provide(Builder.class);
+        }
+
+        /**
+         * Gets the maximum amount of time spent applying jobs per tick.
+         *
+         * @return The tick budget
+         */
+        Duration tickBudget();
+
+        /**
+         * Gets the number of chunks ahead of the job being applied that are
+         * requested to be loaded.
+         *
+         * @return The number of chunks
+         */
+        int chunkLookahead();
+
+        /**
+         * Gets whether a snapshot of the target area is captured before each
+         * job is applied, allowing the placement to be rolled back.
+         *
+         * @return True if snapshots are captured
+         */
+        boolean captureSnapshot();
+
+        interface Builder extends org.spongepowered.api.util.Builder<Options, Builder> {
+
+            Builder tickBudget(Duration budget);
+
+            Builder chunkLookahead(int chunks);
+
+            Builder captureSnapshot(boolean capture);
+
+            @Override
+            Options build();
+
+        }
+
+    }
+
+    interface Factory {
+
+        ArchetypePlacement place(PluginContainer plugin, ArchetypeVolume volume, ServerWorld target, Vector3i placement,
+            Supplier<SpawnType> spawnContext, Options options);
+
+    }
+
+}
@@ -41,6 +41,7 @@
 import org.spongepowered.api.world.volume.stream.VolumePositionTranslators;
 import org.spongepowered.math.vector.Vector3d;
 import org.spongepowered.math.vector.Vector3i;
+import org.spongepowered.plugin.PluginContainer;
 
 import java.util.Objects;
 import java.util.function.Supplier;
@@ -108,4 +109,29 @@ default void applyToWorld(final ServerWorld target, final Vector3i placement, fi
         }
     }
 
+    /**
+     * Applies all of the contents of this {@link ArchetypeVolume volume}
+     * onto the target {@link ServerWorld world} with a relative
+     * {@code placement}, spread over as many ticks as needed to stay within
+     * the {@link ArchetypePlacement.Options#tickBudget() tick budget}.
+     *
+     * @param plugin The plugin applying the volume
+     * @param target The target world
+     * @param placement The target origin, where the diff of relative position
+     *      compared to this volume's min position as the offset
+     * @param spawnContext The context value used for processing spawn entities.
+     * @param options The options of the placement
+     * @return A handle to track and cancel the placement
+     * @see #applyToWorld(ServerWorld, Vector3i, Supplier)
+     */
+    default ArchetypePlacement applyToWorld(final PluginContainer plugin, final ServerWorld target, final Vector3i placement,
+        final Supplier<SpawnType> spawnContext, final ArchetypePlacement.Options options) {
+        Objects.requireNonNull(plugin, "Plugin cannot be null");
+        Objects.requireNonNull(target, "Target world cannot be null");
+        Objects.requireNonNull(placement, "Target position cannot be null");
+        Objects.requireNonNull(options, "Options cannot be null");
+        return Sponge.game().factoryProvider().provide(ArchetypePlacement.Factory.class)
+            .place(plugin, this, target, placement, spawnContext, options);
+    }
+
 }
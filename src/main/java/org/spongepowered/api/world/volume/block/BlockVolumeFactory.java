@@ -33,12 +33,51 @@
 
 public interface BlockVolumeFactory {
 
+    /**
+     * Creates a new empty {@link BlockVolume.Mutable} between the given
+     * bounds, filled with the default state of the given {@link BlockType}.
+     *
+     * <p>The returned volume stores the {@link Palette} identifier of the
+     * state at every position bit-packed, using as many bits per position as
+     * the current size of the palette requires. The number of bits grows as
+     * new states are added to the palette, so a volume holding only a few
+     * distinct states takes up a fraction of the memory a reference per
+     * position would.</p>
+     *
+     * @param palette The palette to map states with
+     * @param defaultState The block type whose default state fills the volume
+     * @param min The minimum position of the volume
+     * @param max The maximum position of the volume
+     * @return The new volume
+     */
     BlockVolume.Mutable empty(Palette<BlockState, BlockType> palette, RegistryReference<BlockType> defaultState, Vector3i min, Vector3i max);
 
+    /**
+     * Creates a new {@link BlockVolume.Mutable} with a copy of the states of
+     * the given volume within the given bounds.
+     *
+     * <p>If the existing volume is backed by palette based storage, its
+     * storage is copied directly rather than block by block.</p>
+     *
+     * @param existing The volume to copy from
+     * @param newMin The minimum position of the copied area
+     * @param newMax The maximum position of the copied area
+     * @return The new volume
+     */
     BlockVolume.Mutable copyFromRange(BlockVolume.Streamable<@NonNull ?> existing, Vector3i newMin, Vector3i newMax);
 
     BlockVolume.Mutable copy(BlockVolume.Streamable<@NonNull ?> existing);
 
+    /**
+     * Creates a new {@link BlockVolume.Immutable} with a copy of the states
+     * of the given volume.
+     *
+     * <p>If the existing volume is backed by palette based storage, its
+     * storage is copied directly rather than block by block.</p>
+     *
+     * @param existing The volume to copy from
+     * @return The new volume
+     */
     BlockVolume.Immutable immutableOf(BlockVolume.Streamable<@NonNull ?> existing);
 
     BlockVolume.Immutable immutableOf(BlockVolume.Streamable<@NonNull ?> existing, Vector3i newMin, Vector3i newMax);
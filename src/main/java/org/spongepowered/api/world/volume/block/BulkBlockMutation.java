@@ -0,0 +1,123 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.world.volume.block;
+
+import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.util.PositionOutOfBoundsException;
+import org.spongepowered.api.util.Tuple;
+import org.spongepowered.api.world.BlockChangeFlag;
+import org.spongepowered.math.vector.Vector3i;
+
+import java.util.stream.Stream;
+
+/**
+ * A set of block changes that is applied onto a
+ * {@link PhysicsAwareMutableBlockVolume} as a whole.
+ *
+ * <p>Changes are buffered until they are {@link #commit() committed}, at
+ * which point they are applied chunk section by chunk section. The work the
+ * {@link BlockChangeFlag} of the mutation asks for, such as lighting,
+ * heightmap updates and sending the changed sections to clients, is done
+ * once for every changed section rather than once for every changed
+ * block.</p>
+ *
+ * @see PhysicsAwareMutableBlockVolume#bulkMutation(BlockChangeFlag)
+ */
+public interface BulkBlockMutation extends AutoCloseable {
+
+    /**
+     * Gets the {@link BlockChangeFlag} controlling which phases run when
+     * this mutation is committed.
+     *
+     * @return The change flag
+     */
+    BlockChangeFlag flag();
+
+    /**
+     * Queues the block at the given position to be set.
+     *
+     * <p>Setting the same position again replaces the previously queued
+     * state.</p>
+     *
+     * @param x The X position
+     * @param y The Y position
+     * @param z The Z position
+     * @param blockState The block
+     * @return This mutation, for chaining
+     * @throws PositionOutOfBoundsException If the position is outside of the
+     *         bounds of the volume
+     */
+    BulkBlockMutation set(int x, int y, int z, BlockState blockState);
+
+    /**
+     * Queues the block at the given position to be set.
+     *
+     * @param position The position
+     * @param blockState The block
+     * @return This mutation, for chaining
+     * @throws PositionOutOfBoundsException If the position is outside of the
+     *         bounds of the volume
+     */
+    default BulkBlockMutation set(final Vector3i position, final BlockState blockState) {
+        return this.set(position.x(), position.y(), position.z(), blockState);
+    }
+
+    /**
+     * Queues all of the given position and block pairs to be set.
+     *
+     * @param changes The changes
+     * @return This mutation, for chaining
+     * @throws PositionOutOfBoundsException If a position is outside of the
+     *         bounds of the volume
+     */
+    default BulkBlockMutation setAll(final Stream<Tuple<Vector3i, BlockState>> changes) {
+        changes.forEachOrdered(change -> this.set(change.first(), change.second()));
+        return this;
+    }
+
+    /**
+     * Gets the number of changes that are queued.
+     *
+     * @return The number of queued changes
+     */
+    int size();
+
+    /**
+     * Applies all queued changes onto the volume.
+     *
+     * <p>The mutation can be reused afterwards, starting out without any
+     * queued changes.</p>
+     *
+     * @return The number of blocks that were changed
+     */
+    int commit();
+
+    /**
+     * Discards all changes that were not committed.
+     */
+    @Override
+    void close();
+
+}
@@ -99,4 +99,26 @@ default boolean setBlock(final Vector3i position, final BlockState blockState, f
      *         bounds of the volume
      */
     boolean setBlock(int x, int y, int z, BlockState blockState, BlockChangeFlag flag);
+
+    /**
+     * Starts a {@link BulkBlockMutation} of this volume, which applies all of
+     * its changes at once and batches the lighting, heightmap and client
+     * updates of every changed chunk section.
+     *
+     * @param flag The various change flags controlling which interactions
+     *     are performed once the mutation is committed
+     * @return The new bulk mutation
+     */
+    BulkBlockMutation bulkMutation(BlockChangeFlag flag);
+
+    /**
+     * Starts a {@link BulkBlockMutation} of this volume using
+     * {@link BlockChangeFlags#DEFAULT_PLACEMENT}.
+     *
+     * @return The new bulk mutation
+     * @see #bulkMutation(BlockChangeFlag)
+     */
+    default BulkBlockMutation bulkMutation() {
+        return this.bulkMutation(BlockChangeFlags.DEFAULT_PLACEMENT);
+    }
 }
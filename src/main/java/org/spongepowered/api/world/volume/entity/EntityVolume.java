@@ -44,11 +44,15 @@
 import org.spongepowered.math.vector.Vector3d;
 import org.spongepowered.math.vector.Vector3i;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.PriorityQueue;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
@@ -104,13 +108,26 @@ default <T extends Entity> Collection<? extends T> entities(Class<? extends T> e
         return this.entities(entityClass, box, EntityPredicates.NO_SPECTATOR);
     }
 
+    /**
+     * Gets the nearest {@link Player} to the given position that passes the
+     * given predicate.
+     *
+     * @param x The X position
+     * @param y The Y position
+     * @param z The Z position
+     * @param distance The maximum distance of the player, or a negative
+     *     number to not limit the distance
+     * @param predicate The filter test, or {@code null} to accept all players
+     * @return The nearest player, if available
+     */
     default Optional<? extends Player> nearestPlayer(double x, double y, double z, double distance, @Nullable Predicate<? super Entity> predicate) {
+        final double distanceSquared = distance * distance;
         Player nearest = null;
         double closest = -1.0D;
-        for (Player player : this.players()) {
+        for (final Player player : this.players()) {
             if (predicate == null || predicate.test(player)) {
                 final double dist = player.position().distanceSquared(x, y, z);
-                if ((closest < 0 || dist < distance * distance) && (closest == -1 || dist < distance)) {
+                if ((distance < 0 || dist < distanceSquared) && (closest < 0 || dist < closest)) {
                     nearest = player;
                     closest = dist;
                 }
@@ -142,6 +159,72 @@ default Collection<? extends Entity> nearbyEntities(Vector3d location, double di
             entity -> entity.location().position().distanceSquared(location) <= distance * distance);
     }
 
+    /**
+     * Passes every entity contained within {@code distance} blocks of the
+     * specified location that passes the given filter test to the consumer,
+     * in no particular order. This uses a sphere to test distances.
+     *
+     * <p>Unlike {@link #nearbyEntities(Vector3d, double)}, implementations
+     * backed by a spatial index do not collect the entities into an
+     * intermediate collection.</p>
+     *
+     * @param location The location at the center of the search radius
+     * @param distance The search radius
+     * @param filter The filter test
+     * @param consumer The consumer of the nearby entities
+     */
+    default void nearbyEntities(final Vector3d location, final double distance, final Predicate<? super Entity> filter,
+        final Consumer<? super Entity> consumer) {
+        Objects.requireNonNull(location);
+        Objects.requireNonNull(filter);
+        Objects.requireNonNull(consumer);
+        if (distance <= 0) {
+            throw new IllegalArgumentException("Distance must be a positive number!");
+        }
+
+        final double distanceSquared = distance * distance;
+        final AABB box = AABB.of(location.x() - distance, location.y() - distance, location.z() - distance,
+            location.x() + distance, location.y() + distance, location.z() + distance);
+        for (final Entity entity : this.entities(box, filter)) {
+            if (entity.position().distanceSquared(location) <= distanceSquared) {
+                consumer.accept(entity);
+            }
+        }
+    }
+
+    /**
+     * Gets up to {@code count} entities contained within {@code distance}
+     * blocks of the specified location that pass the given filter test,
+     * ordered from nearest to farthest.
+     *
+     * @param location The location at the center of the search radius
+     * @param distance The search radius
+     * @param count The maximum number of entities to return
+     * @param filter The filter test
+     * @return The nearest entities
+     */
+    default List<? extends Entity> nearestEntities(final Vector3d location, final double distance, final int count,
+        final Predicate<? super Entity> filter) {
+        Objects.requireNonNull(location);
+        Objects.requireNonNull(filter);
+        if (count <= 0) {
+            throw new IllegalArgumentException("Count must be a positive number!");
+        }
+
+        final Comparator<Entity> byDistance = Comparator.comparingDouble(entity -> entity.position().distanceSquared(location));
+        // Farthest entity first, so it is the one evicted once more than count are found
+        final PriorityQueue<Entity> nearest = new PriorityQueue<>(Math.min(count, 16) + 1, byDistance.reversed());
+        this.nearbyEntities(location, distance, filter, entity -> {
+            nearest.add(entity);
+            if (nearest.size() > count) {
+                nearest.poll();
+            }
+        });
+        final List<Entity> entities = new ArrayList<>(nearest);
+        entities.sort(byDistance);
+        return entities;
+    }
+
     interface Streamable<E extends Streamable<E>> extends EntityVolume {
 
         /**
@@ -24,6 +24,8 @@
  */
 package org.spongepowered.api.world.volume.stream;
 
+import org.spongepowered.api.world.World;
+import org.spongepowered.api.world.storage.ChunkLayout;
 import org.spongepowered.api.world.volume.MutableVolume;
 import org.spongepowered.api.world.volume.Volume;
 import org.spongepowered.math.vector.Vector3d;
@@ -64,6 +66,42 @@
 
     V volume();
 
+    /**
+     * Returns an equivalent stream whose terminal operations are performed
+     * in parallel.
+     *
+     * <p>The elements are split along the {@link ChunkLayout chunk} and
+     * section boundaries of the backing {@link Volume}, such that every
+     * section is only worked on by a single thread. Sections are loaded
+     * according to the {@link StreamOptions.LoadingStyle} the stream was
+     * created with.</p>
+     *
+     * <p>Unless the stream was created with
+     * {@link StreamOptions#carbonCopy()}, the backing volume is accessed
+     * directly, in which case a parallel stream of a {@link World} is only
+     * safe for volumes that may be accessed off of the main thread.</p>
+     *
+     * @return A parallel stream
+     */
+    VolumeStream<V, T> parallel();
+
+    /**
+     * Returns an equivalent stream whose terminal operations are performed
+     * sequentially on the calling thread.
+     *
+     * @return A sequential stream
+     */
+    VolumeStream<V, T> sequential();
+
+    /**
+     * Gets whether the terminal operations of this stream are performed in
+     * parallel.
+     *
+     * @return True if this stream is parallel
+     * @see #parallel()
+     */
+    boolean isParallel();
+
     VolumeStream<V, T> filter(VolumePredicate<V, T> predicate);
 
     default VolumeStream<V, T> filter(final Predicate<VolumeElement<V, ? super T>> predicate) {
@@ -27,6 +27,7 @@
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 
 import com.google.common.collect.ImmutableList;
 import org.hamcrest.MatcherAssert;
@@ -34,6 +35,7 @@
 import org.spongepowered.api.data.persistence.DataQuery;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 class DataQueryTest {
@@ -157,4 +159,46 @@ void testEquals() {
         MatcherAssert.assertThat(query1, is(not(nonEqual)));
     }
 
+    /**
+     * Method: of(char separator, String path)
+     */
+    @Test
+    void testOfMatchesStringSplit() {
+        final String[] paths = {"", "a", "a.b", "a..b", ".a", "a.b.", "..a..", "..."};
+        for (final String path : paths) {
+            final List<String> expected = Arrays.asList(path.split("\\."));
+            MatcherAssert.assertThat(DataQuery.of('.', path).parts(), is(equalTo(expected)));
+        }
+    }
+
+    /**
+     * Method: popFirst()
+     */
+    @Test
+    void testPopFirst() {
+        final DataQuery full = DataQuery.of("this", "test", "query");
+        MatcherAssert.assertThat(full.popFirst(), equalTo(DataQuery.of("test", "query")));
+        MatcherAssert.assertThat(DataQuery.of("single").popFirst(), equalTo(DataQuery.of()));
+    }
+
+    /**
+     * Method: hashCode()
+     */
+    @Test
+    void testHashCode() {
+        final DataQuery query = DataQuery.of("this", "test", "query");
+        MatcherAssert.assertThat(query.hashCode(), is(DataQuery.of('.', "this.test.query").hashCode()));
+        MatcherAssert.assertThat(query.hashCode(), is(DataQuery.of("this").then("test").then("query").hashCode()));
+    }
+
+    @Test
+    void testInterned() {
+        final DataQuery query = DataQuery.of("this", "test", "query");
+        MatcherAssert.assertThat(DataQuery.of('/', "this/test/query"), is(sameInstance(query)));
+        MatcherAssert.assertThat(DataQuery.of("this").then(DataQuery.of("test", "query")), is(sameInstance(query)));
+        MatcherAssert.assertThat(query.pop().then("query"), is(sameInstance(query)));
+        MatcherAssert.assertThat(query.last(), is(sameInstance(DataQuery.of("query"))));
+        MatcherAssert.assertThat(DataQuery.of(new ArrayList<>()), is(sameInstance(DataQuery.of())));
+    }
+
 }
@@ -36,6 +36,8 @@
 import org.hamcrest.MatcherAssert;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 import org.spongepowered.api.matcher.SpongeMatchers;
 
 import java.util.List;
@@ -121,4 +123,35 @@ void testListedArray() {
         MatcherAssert.assertThat(stringList, is(fooList));
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {2, 8, 32})
+    void testTypedLookups(final int depth) {
+        final Cause.Builder builder = Cause.builder();
+        for (int i = 0; i < depth; i++) {
+            builder.append(i % 2 == 0 ? "cause" + i : (Object) i);
+        }
+        final Cause cause = builder.build(EventContext.empty());
+        // Queried twice to cover both the initial scan and the memoised lookup
+        for (int pass = 0; pass < 2; pass++) {
+            MatcherAssert.assertThat(cause.first(String.class), SpongeMatchers.valueIs("cause0"));
+            MatcherAssert.assertThat(cause.last(String.class), SpongeMatchers.valueIs("cause" + (depth - 2)));
+            MatcherAssert.assertThat(cause.first(Integer.class), SpongeMatchers.valueIs(1));
+            MatcherAssert.assertThat(cause.last(Integer.class), SpongeMatchers.valueIs(depth - 1));
+            MatcherAssert.assertThat(cause.allOf(Integer.class), hasSize(depth / 2));
+            MatcherAssert.assertThat(cause.allOf(Long.class), is(empty()));
+            MatcherAssert.assertThat(cause.first(Long.class), is(not(SpongeMatchers.present())));
+            MatcherAssert.assertThat(cause.containsType(Integer.class), is(true));
+            MatcherAssert.assertThat(cause.containsType(Long.class), is(false));
+            MatcherAssert.assertThat(cause.before(Integer.class), SpongeMatchers.valueIs(equalToObject("cause0")));
+            MatcherAssert.assertThat(cause.after(String.class), SpongeMatchers.valueIs(equalToObject(1)));
+            if (depth > 2) {
+                MatcherAssert.assertThat(cause.before(String.class), SpongeMatchers.valueIs(equalToObject(1)));
+                MatcherAssert.assertThat(cause.after(Integer.class), SpongeMatchers.valueIs(equalToObject("cause2")));
+            } else {
+                MatcherAssert.assertThat(cause.before(String.class), is(not(SpongeMatchers.present())));
+                MatcherAssert.assertThat(cause.after(Integer.class), is(not(SpongeMatchers.present())));
+            }
+        }
+    }
+
 }
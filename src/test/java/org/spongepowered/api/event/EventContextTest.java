@@ -0,0 +1,113 @@
+/*
+ * This file is part of SpongeAPI, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.api.event;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.core.Is.is;
+
+import org.hamcrest.MatcherAssert;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.spongepowered.api.matcher.SpongeMatchers;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+class EventContextTest {
+
+    @SuppressWarnings("unchecked")
+    private static EventContextKey<String> key() {
+        return Mockito.mock(EventContextKey.class);
+    }
+
+    @Test
+    void testEmptyContext() {
+        final EventContext context = EventContext.empty();
+        MatcherAssert.assertThat(context.get(EventContextTest.key()), is(not(SpongeMatchers.present())));
+        MatcherAssert.assertThat(context.asMap().isEmpty(), is(true));
+    }
+
+    @Test
+    void testLookup() {
+        final List<EventContextKey<String>> keys = new ArrayList<>();
+        final EventContext.Builder builder = EventContext.builder();
+        for (int i = 0; i < 20; i++) {
+            final EventContextKey<String> key = EventContextTest.key();
+            keys.add(key);
+            builder.add(key, "value" + i);
+        }
+        final EventContext context = builder.build();
+        for (int i = 0; i < keys.size(); i++) {
+            MatcherAssert.assertThat(context.get(keys.get(i)), SpongeMatchers.valueIs(is("value" + i)));
+            MatcherAssert.assertThat(context.containsKey(keys.get(i)), is(true));
+        }
+        MatcherAssert.assertThat(context.containsKey(EventContextTest.key()), is(false));
+        MatcherAssert.assertThat(context.keySet(), containsInAnyOrder(keys.toArray()));
+    }
+
+    @Test
+    void testNullKey() {
+        final EventContext context = EventContext.builder().add(EventContextTest.key(), "foo").build();
+        MatcherAssert.assertThat(context.containsKey((EventContextKey<?>) null), is(false));
+    }
+
+    @Test
+    void testInsertionOrder() {
+        final List<EventContextKey<String>> keys = new ArrayList<>();
+        final Map<EventContextKey<?>, Object> entries = new LinkedHashMap<>();
+        for (int i = 0; i < 20; i++) {
+            final EventContextKey<String> key = EventContextTest.key();
+            keys.add(key);
+            entries.put(key, "value" + i);
+        }
+        final EventContext context = EventContext.of(entries);
+        MatcherAssert.assertThat(context.keySet(), contains(keys.toArray()));
+        MatcherAssert.assertThat(EventContext.builder().from(context).build(), is(context));
+    }
+
+    @Test
+    void testDuplicateKey() {
+        final EventContextKey<String> key = EventContextTest.key();
+        final EventContext.Builder builder = EventContext.builder().add(key, "foo");
+        Assertions.assertThrows(IllegalArgumentException.class, () -> builder.add(key, "bar"));
+    }
+
+    @Test
+    void testEqualsAndHashCode() {
+        final EventContextKey<String> first = EventContextTest.key();
+        final EventContextKey<String> second = EventContextTest.key();
+        final EventContext context = EventContext.builder().add(first, "foo").add(second, "bar").build();
+        final EventContext copy = EventContext.builder().from(context).build();
+        MatcherAssert.assertThat(copy, is(context));
+        MatcherAssert.assertThat(copy.hashCode(), is(context.hashCode()));
+        MatcherAssert.assertThat(context.hashCode(), is(context.asMap().hashCode()));
+    }
+
+}
@@ -41,6 +41,16 @@ public void enqueue(double next) {
         this.queue.add(next);
     }
 
+    public void enqueue(double... next) {
+        for (double value : next) {
+            this.queue.add(value);
+        }
+    }
+
+    public int remaining() {
+        return this.queue.size();
+    }
+
     @Override
     public double nextDouble() {
         if (!this.queue.isEmpty()) {
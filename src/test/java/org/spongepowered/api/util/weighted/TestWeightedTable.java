@@ -27,7 +27,11 @@
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Random;
 
 public class TestWeightedTable {
 
@@ -41,4 +45,92 @@ public void test() {
         Assertions.assertEquals(this, results.get(0));
     }
 
+    @Test
+    public void testDistribution() {
+        final double[] weights = {1, 2, 3, 4, 0, 10};
+        final WeightedTable<Integer> table = new WeightedTable<>();
+        double total = 0;
+        for (int i = 0; i < weights.length; i++) {
+            table.add(i, weights[i]);
+            total += weights[i];
+        }
+        // Evenly spread rolls over the whole range, every entry has to be
+        // picked as often as its share of the total weight
+        final int samples = 10000;
+        final RiggedRandom rand = new RiggedRandom();
+        for (int i = 0; i < samples; i++) {
+            rand.enqueue((i + 0.5) / samples);
+        }
+        final Map<Integer, Integer> counts = new HashMap<>();
+        table.get(rand, samples, value -> counts.merge(value, 1, Integer::sum));
+        Assertions.assertEquals(0, rand.remaining());
+        for (int i = 0; i < weights.length; i++) {
+            final int expected = (int) Math.round(weights[i] / total * samples);
+            Assertions.assertEquals(expected, counts.getOrDefault(i, 0), 1, "entry " + i);
+        }
+    }
+
+    @Test
+    public void testRebuiltAfterModification() {
+        final WeightedTable<String> table = new WeightedTable<>();
+        table.add("first", 1);
+        final RiggedRandom rand = new RiggedRandom();
+        rand.enqueue(0.9);
+        Assertions.assertEquals("first", table.get(rand).get(0));
+
+        table.add("second", 3);
+        rand.enqueue(0.1, 0.9);
+        final List<String> results = new ArrayList<>();
+        table.get(rand, 2, results::add);
+        Assertions.assertEquals("first", results.get(0));
+        Assertions.assertEquals("second", results.get(1));
+
+        table.removeObject("first");
+        rand.enqueue(0.1, 0.9);
+        results.clear();
+        table.get(rand, 2, results::add);
+        Assertions.assertEquals("second", results.get(0));
+        Assertions.assertEquals("second", results.get(1));
+    }
+
+    @Test
+    public void testBulkMatchesGet() {
+        final WeightedTable<Integer> table = new WeightedTable<>(16);
+        for (int i = 0; i < 100; i++) {
+            table.add(i, i % 7 + 1);
+        }
+        final List<Integer> bulk = new ArrayList<>();
+        table.get(new Random(42), 16, bulk::add);
+        Assertions.assertEquals(table.get(new Random(42)), bulk);
+    }
+
+    @Test
+    public void testNegativeRolls() {
+        final WeightedTable<String> table = new WeightedTable<>(VariableAmount.range(-3, -1));
+        table.add("a", 1);
+        Assertions.assertTrue(table.get(new Random(3)).isEmpty());
+        final LootTable<String> loot = new LootTable<>();
+        loot.addTable(table);
+        Assertions.assertTrue(loot.get(new Random(3)).isEmpty());
+        final List<String> results = new ArrayList<>();
+        loot.get(new Random(3), results::add);
+        Assertions.assertTrue(results.isEmpty());
+    }
+
+    @Test
+    public void testLootTable() {
+        final WeightedTable<String> first = new WeightedTable<>(2);
+        first.add("a", 1);
+        final ChanceTable<String> second = new ChanceTable<>();
+        second.add("b", 1);
+        final LootTable<String> loot = new LootTable<>();
+        loot.addTable(first);
+        loot.addTable(new WeightedTable<>());
+        loot.addTable(new UnmodifiableWeightedTable<>(first));
+        loot.addTable(second);
+        final List<String> results = new ArrayList<>();
+        loot.get(new Random(7), results::add);
+        Assertions.assertEquals(loot.get(new Random(7)), results);
+    }
+
 }